@@ -212,6 +212,8 @@ public class JavaBasics {
     DSA rule:
     - Never store per-test-case data in static fields
     - Use local variables inside solve() methods
+    - Per-case state in objects also lets independent test cases
+      run on several threads (see Section 20.10)
     */
 
 
@@ -11,12 +11,32 @@ Scope:
 - Comparator usage
 - Common DSA patterns
 - Java-specific pitfalls
+- Primitive heaps (no boxing)
+- Indexed heap with decreaseKey
+- d-ary heaps for large heaps
+- Radix heap for monotone integer keys
+- Pairing heap with O(1) meld
+- Loser tree for K-way merge
+- Packed-key parallel Top-K
+- Concurrent relaxed priority queue (MultiQueue)
+- Hierarchical timing wheel for tick-based events
+- Struct-of-arrays heap for multi-field records
 
 PriorityQueue in Java is a BINARY HEAP.
 */
 
 import java.util.PriorityQueue;
 import java.util.Comparator;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
 
 public class PriorityQueueDSA {
 
@@ -203,7 +223,1759 @@ public class PriorityQueueDSA {
 
     /*
     ----------------------------------------------------
-    14.9 DSA RULES FOR PRIORITYQUEUE
+    14.9 Primitive Heap (IntHeap / LongHeap, NO BOXING)
+    ----------------------------------------------------
+
+    PriorityQueue<Integer> costs, per element:
+    - One Integer object (16 bytes + 4-byte reference) -> GC pressure
+    - A Comparator / compareTo call on every sift step
+    - Pointer chasing: the array holds references, not values
+
+    Top-K over 10^8 ints = 10^8 Integer allocations.
+
+    Primitive heap:
+    - Values live directly in an int[] / long[]
+    - Same binary-heap algorithm as 14.1 (parent = (i - 1) / 2)
+    - Max-heap trick: store ~x instead of x
+        ~x reverses the order of ALL ints (no overflow, unlike -x)
+        -> one min-heap implementation serves both modes
+    - Bulk heapify from an array in O(n) (not n * O(log n) adds)
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class IntHeap {
+        private int[] heap;
+        private int size;
+        private final int flip; // 0 = min-heap, -1 (all bits) = max-heap
+
+        IntHeap(int capacity, boolean maxHeap) {
+            heap = new int[Math.max(1, capacity)];
+            flip = maxHeap ? -1 : 0;
+        }
+
+        // Bulk heapify: O(n)
+        IntHeap(int[] values, boolean maxHeap) {
+            this(values.length, maxHeap);
+            for (int x : values) {
+                heap[size++] = x ^ flip;
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(int x) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            heap[size] = x ^ flip;
+            siftUp(size++);
+        }
+
+        int peek() {
+            if (size == 0) throw new NoSuchElementException();
+            return heap[0] ^ flip;
+        }
+
+        int poll() {
+            int top = peek();
+            heap[0] = heap[--size];
+            siftDown(0);
+            return top;
+        }
+
+        private void siftUp(int i) {
+            int x = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= x) break;
+                heap[i] = heap[parent]; // move parent down, no swap
+                i = parent;
+            }
+            heap[i] = x;
+        }
+
+        private void siftDown(int i) {
+            int x = heap[i];
+            int half = size >>> 1; // nodes below this index have children
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (x <= heap[child]) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = x;
+        }
+    }
+
+    // Same algorithm over long[]; flip is 0L or -1L.
+    static class LongHeap {
+        private long[] heap;
+        private int size;
+        private final long flip;
+
+        LongHeap(int capacity, boolean maxHeap) {
+            heap = new long[Math.max(1, capacity)];
+            flip = maxHeap ? -1L : 0L;
+        }
+
+        LongHeap(long[] values, boolean maxHeap) {
+            this(values.length, maxHeap);
+            for (long x : values) {
+                heap[size++] = x ^ flip;
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(long x) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            heap[size] = x ^ flip;
+            siftUp(size++);
+        }
+
+        long peek() {
+            if (size == 0) throw new NoSuchElementException();
+            return heap[0] ^ flip;
+        }
+
+        long poll() {
+            long top = peek();
+            heap[0] = heap[--size];
+            siftDown(0);
+            return top;
+        }
+
+        private void siftUp(int i) {
+            long x = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= x) break;
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = x;
+        }
+
+        private void siftDown(int i) {
+            long x = heap[i];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (x <= heap[child]) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = x;
+        }
+    }
+
+    static void intHeapExample() {
+        IntHeap min = new IntHeap(new int[] {5, 1, 3}, false);
+        IntHeap max = new IntHeap(new int[] {5, 1, 3}, true);
+
+        System.out.println(min.peek()); // 1
+        System.out.println(max.peek()); // 5
+    }
+
+    static void primitiveTopK(int[] arr, int k) {
+        IntHeap heap = new IntHeap(k + 1, false);
+
+        for (int x : arr) {
+            heap.add(x);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        System.out.println(heap.peek()); // kth largest, zero Integer objects
+    }
+    */
+
+    /*
+    Notes:
+    - Same O(log n) bounds as PriorityQueue, far smaller constant
+    - poll() on an empty heap throws (PriorityQueue.poll() returns null)
+    - "Hole" sifting (shift, then write once) halves array writes vs swapping
+    */
+
+    /*
+    ----------------------------------------------------
+    14.10 Indexed Priority Queue (decreaseKey FOR DIJKSTRA)
+    ----------------------------------------------------
+
+    java.util.PriorityQueue has NO decrease-key.
+    Usual Dijkstra workaround: add a duplicate (dist, vertex) pair
+    and skip "stale" entries when polled.
+    - Heap grows to O(E) entries instead of O(V)
+    - Every stale entry is a wasted poll + allocation
+
+    Indexed heap keyed by vertex id (0..n-1):
+    - key[v]  : current priority of vertex v
+    - heap[i] : vertex stored at heap slot i
+    - pos[v]  : heap slot of vertex v (-1 if not in heap)
+
+    pos[] gives O(1) lookup, so every operation is O(log n):
+        add, decreaseKey, remove, poll
+    and contains(v) is O(1). Memory: O(V) primitives, no objects.
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class IndexedMinHeap {
+        private final long[] key;
+        private final int[] heap;
+        private final int[] pos;
+        private int size;
+
+        IndexedMinHeap(int n) {
+            key = new long[n];
+            heap = new int[n];
+            pos = new int[n];
+            Arrays.fill(pos, -1);
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean contains(int v) {
+            return pos[v] >= 0;
+        }
+
+        long key(int v) {
+            return key[v];
+        }
+
+        void add(int v, long k) {
+            if (contains(v)) throw new IllegalArgumentException("vertex already in heap: " + v);
+            key[v] = k;
+            heap[size] = v;
+            pos[v] = size;
+            siftUp(size++);
+        }
+
+        void decreaseKey(int v, long k) {
+            if (!contains(v) || k > key[v]) throw new IllegalArgumentException("not a decrease: " + v);
+            key[v] = k;
+            siftUp(pos[v]);
+        }
+
+        // Dijkstra relax step: insert, or lower the key if k is smaller.
+        boolean addOrDecrease(int v, long k) {
+            if (!contains(v)) {
+                add(v, k);
+                return true;
+            }
+            if (k < key[v]) {
+                decreaseKey(v, k);
+                return true;
+            }
+            return false;
+        }
+
+        int peek() {
+            if (size == 0) throw new NoSuchElementException();
+            return heap[0];
+        }
+
+        // Removes and returns the vertex with the smallest key.
+        int poll() {
+            int v = peek();
+            remove(v);
+            return v;
+        }
+
+        void remove(int v) {
+            int i = pos[v];
+            if (i < 0) throw new NoSuchElementException("vertex not in heap: " + v);
+            int last = heap[--size];
+            pos[v] = -1;
+            if (i == size) return;
+
+            heap[i] = last;
+            pos[last] = i;
+            siftUp(i);
+            siftDown(pos[last]);
+        }
+
+        private void siftUp(int i) {
+            int v = heap[i];
+            long k = key[v];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                int p = heap[parent];
+                if (key[p] <= k) break;
+                heap[i] = p;
+                pos[p] = i;
+                i = parent;
+            }
+            heap[i] = v;
+            pos[v] = i;
+        }
+
+        private void siftDown(int i) {
+            int v = heap[i];
+            long k = key[v];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && key[heap[child + 1]] < key[heap[child]]) child++;
+                int c = heap[child];
+                if (k <= key[c]) break;
+                heap[i] = c;
+                pos[c] = i;
+                i = child;
+            }
+            heap[i] = v;
+            pos[v] = i;
+        }
+    }
+
+    // edges[i] = {from, to, weight}, weights >= 0
+    static long[] dijkstra(int n, int[][] edges, int src) {
+        // Adjacency in flat arrays (CSR): no List<int[]> per vertex
+        int[] start = new int[n + 1];
+        for (int[] e : edges) start[e[0] + 1]++;
+        for (int v = 0; v < n; v++) start[v + 1] += start[v];
+        int[] to = new int[edges.length];
+        int[] w = new int[edges.length];
+        int[] fill = Arrays.copyOf(start, n);
+        for (int[] e : edges) {
+            to[fill[e[0]]] = e[1];
+            w[fill[e[0]]++] = e[2];
+        }
+
+        long[] dist = new long[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        dist[src] = 0;
+
+        IndexedMinHeap pq = new IndexedMinHeap(n);
+        pq.add(src, 0);
+        while (!pq.isEmpty()) {
+            int u = pq.poll(); // never stale: each vertex is in the heap at most once
+            for (int i = start[u]; i < start[u + 1]; i++) {
+                long nd = dist[u] + w[i];
+                if (nd < dist[to[i]]) {
+                    dist[to[i]] = nd;
+                    pq.addOrDecrease(to[i], nd);
+                }
+            }
+        }
+        return dist;
+    }
+
+    static void dijkstraExample() {
+        int[][] edges = {{0, 1, 4}, {0, 2, 1}, {2, 1, 2}, {1, 3, 1}};
+        System.out.println(Arrays.toString(dijkstra(4, edges, 0))); // [0, 3, 1, 4]
+    }
+    */
+
+    /*
+    Notes:
+    - Heap never holds more than V entries (vs up to E with duplicates)
+    - Vertex ids must be 0..n-1; remap sparse ids first
+    - remove(v) sifts both ways: the moved-in element may go up OR down
+    */
+
+    /*
+    ----------------------------------------------------
+    14.11 d-ary Heap (CACHE-FRIENDLY, d = 2 / 4 / 8)
+    ----------------------------------------------------
+
+    Binary heap (14.1) on 10^6+ elements:
+    - Height log2(n) ~ 20 levels
+    - Each level of a poll() touches a new, far-away cache line
+      -> ~20 cache misses per poll
+
+    d-ary heap: every node has d children
+    - Height log_d(n): d = 4 -> half the levels of a binary heap
+    - The d children sit NEXT to each other:
+        4 ints = 16 bytes, 8 ints = 32 bytes -> usually one cache line
+      -> comparing all d children costs about ONE miss
+    - add() gets cheaper (fewer levels), poll() does more compares
+      per level but they hit the same line
+
+    Layout trick: shift the array by (d - 1) empty slots, so each
+    sibling group starts at a multiple of d (aligned within the array).
+    Children of i: d*i + 1 .. d*i + d   (stored at index + d - 1)
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class DaryHeap {
+        private final int d;
+        private final int shift; // log2(d)
+        private final int base;  // padding so sibling groups are aligned
+        private int[] heap;
+        private int size;
+
+        DaryHeap(int arity, int capacity) {
+            if (arity != 2 && arity != 4 && arity != 8) {
+                throw new IllegalArgumentException("arity must be 2, 4 or 8: " + arity);
+            }
+            d = arity;
+            shift = Integer.numberOfTrailingZeros(arity);
+            base = arity - 1;
+            heap = new int[base + Math.max(1, capacity)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(int x) {
+            if (base + size == heap.length) {
+                heap = Arrays.copyOf(heap, base + 2 * size);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> shift;
+                int p = heap[base + parent];
+                if (p <= x) break;
+                heap[base + i] = p;
+                i = parent;
+            }
+            heap[base + i] = x;
+        }
+
+        int peek() {
+            if (size == 0) throw new NoSuchElementException();
+            return heap[base];
+        }
+
+        int poll() {
+            int top = peek();
+            int x = heap[base + --size];
+            int i = 0;
+            while (true) {
+                int first = (i << shift) + 1;
+                if (first >= size) break;
+                int last = Math.min(first + d, size);
+
+                // Branch-light minimum: conditional moves, no unpredictable jumps
+                int best = first;
+                int bestVal = heap[base + first];
+                for (int c = first + 1; c < last; c++) {
+                    int v = heap[base + c];
+                    boolean smaller = v < bestVal;
+                    best = smaller ? c : best;
+                    bestVal = smaller ? v : bestVal;
+                }
+
+                if (x <= bestVal) break;
+                heap[base + i] = bestVal;
+                i = best;
+            }
+            heap[base + i] = x;
+            return top;
+        }
+    }
+
+    static void daryHeapExample() {
+        DaryHeap pq = new DaryHeap(4, 16);
+        for (int x : new int[] {5, 1, 8, 3, 9, 2}) {
+            pq.add(x);
+        }
+        while (!pq.isEmpty()) {
+            System.out.print(pq.poll() + " "); // 1 2 3 5 8 9
+        }
+    }
+    */
+
+    /*
+    Choosing d:
+    - Small heaps (fit in L2): d = 2, fewest compares
+    - Large heaps (> ~10^6), many polls: d = 4 usually wins
+    - Mostly add(), few polls: d = 8 (shortest sift-up path)
+    - Measure with the real workload (JMH, as in 17.13)
+
+    Java caveat:
+    - base aligns sibling groups by array INDEX, not by memory address
+    - The int[] header is 16 bytes and objects are only 8-byte aligned:
+      a 16-byte group (d = 4) can start at 56 mod 64 and straddle two lines
+    - So "one group = one cache line" is NOT guaranteed in Java for any d;
+      most groups still fit one line, which is where the win comes from
+    - Max-heap: store ~x exactly as in 14.9
+    */
+
+    /*
+    ----------------------------------------------------
+    14.12 Radix Heap (MONOTONE INTEGER PRIORITIES)
+    ----------------------------------------------------
+
+    Special but very common case: keys never go BELOW the last popped key.
+    - Dijkstra with non-negative integer weights
+    - Event simulation with integer timestamps
+
+    Radix heap exploits this, with NO key comparisons between elements:
+    - last = key of the most recent pop
+    - Bucket of key k = highest bit where k and last differ
+        bucket(k) = 64 - numberOfLeadingZeros(k ^ last)   (0..64)
+    - bucket 0 holds keys == last -> pop from it directly
+    - Empty bucket 0: take the first non-empty bucket, its minimum
+      becomes the new last, and its entries move to LOWER buckets
+
+    Cost:
+    - push: O(1)
+    - pop:  O(log C) amortized (an entry only ever moves down, <= 64 times)
+
+    Requirements:
+    - Keys >= 0 and never smaller than the last popped key
+    - Payload: an int (vertex id, event id)
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class RadixHeap {
+        private static final int BUCKETS = 65;
+
+        private final long[][] keys = new long[BUCKETS][];
+        private final int[][] vals = new int[BUCKETS][];
+        private final int[] count = new int[BUCKETS];
+        private long last = 0;
+        private int size = 0;
+
+        RadixHeap() {
+            for (int b = 0; b < BUCKETS; b++) {
+                keys[b] = new long[4];
+                vals[b] = new int[4];
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        // Key of the most recently popped entry.
+        long lastKey() {
+            return last;
+        }
+
+        void push(long key, int value) {
+            if (key < last) {
+                throw new IllegalArgumentException("key " + key + " < last popped " + last);
+            }
+            put(bucket(key), key, value);
+            size++;
+        }
+
+        // Returns the payload of a minimum entry; its key is then lastKey().
+        int pop() {
+            if (size == 0) throw new NoSuchElementException();
+            if (count[0] == 0) {
+                int b = 1;
+                while (count[b] == 0) b++;
+
+                long[] ks = keys[b];
+                int[] vs = vals[b];
+                int n = count[b];
+                long min = Long.MAX_VALUE;
+                for (int i = 0; i < n; i++) min = Math.min(min, ks[i]);
+
+                last = min;
+                count[b] = 0;
+                for (int i = 0; i < n; i++) {
+                    put(bucket(ks[i]), ks[i], vs[i]); // always a bucket < b
+                }
+            }
+            size--;
+            return vals[0][--count[0]];
+        }
+
+        private int bucket(long key) {
+            return 64 - Long.numberOfLeadingZeros(key ^ last);
+        }
+
+        private void put(int b, long key, int value) {
+            int n = count[b];
+            if (n == keys[b].length) {
+                keys[b] = Arrays.copyOf(keys[b], 2 * n);
+                vals[b] = Arrays.copyOf(vals[b], 2 * n);
+            }
+            keys[b][n] = key;
+            vals[b][n] = value;
+            count[b] = n + 1;
+        }
+    }
+
+    // Graph in CSR arrays, built as in 14.10 (start / to / w), weights >= 0.
+    static long[] dijkstraRadix(int n, int[] start, int[] to, int[] w, int src) {
+        long[] dist = new long[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        dist[src] = 0;
+
+        RadixHeap pq = new RadixHeap();
+        pq.push(0, src);
+        while (!pq.isEmpty()) {
+            int u = pq.pop();
+            if (pq.lastKey() != dist[u]) continue; // stale duplicate: O(1) to skip
+
+            for (int i = start[u]; i < start[u + 1]; i++) {
+                long nd = dist[u] + w[i];
+                if (nd < dist[to[i]]) {
+                    dist[to[i]] = nd;
+                    pq.push(nd, to[i]); // nd >= dist[u] = lastKey -> monotone
+                }
+            }
+        }
+        return dist;
+    }
+
+    static void radixHeapExample() {
+        RadixHeap pq = new RadixHeap();
+        pq.push(5, 50);
+        pq.push(1, 10);
+        pq.push(3, 30);
+
+        while (!pq.isEmpty()) {
+            int v = pq.pop();
+            System.out.print(pq.lastKey() + ":" + v + " "); // 1:10 3:30 5:50
+        }
+    }
+    */
+
+    /*
+    Notes:
+    - int keys: pass them as long, same structure
+    - Pushing a key below lastKey() throws: that input is NOT monotone,
+      use a regular heap (14.9 / 14.10) instead
+    - Duplicates (lazy Dijkstra) are fine here: push is O(1)
+    */
+
+    /*
+    ----------------------------------------------------
+    14.13 Pairing Heap (O(1) MELD OF MANY QUEUES)
+    ----------------------------------------------------
+
+    Merging two PriorityQueues:
+        a.addAll(b)   -> O(m log(n + m)), every element re-inserted
+
+    Pairing heap = multi-way tree, heap-ordered:
+    - insert: make a 1-node tree, link with root           O(1)
+    - meld:   link two roots (bigger root becomes child)    O(1)
+    - poll:   remove root, pair up its children twice      O(log n) amortized
+      (pass 1: link children in pairs left -> right,
+       pass 2: link the results right -> left)
+
+    Pool allocation (no Node objects, no GC):
+    - ALL nodes of ALL heaps live in shared primitive arrays
+    - A heap is just the int index of its root (NIL = empty)
+    - Tree links: child[] = first child, sibling[] = next sibling
+    - Freed nodes go on a free list and are reused
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class PairingHeapPool {
+        static final int NIL = -1;
+
+        private long[] key;
+        private int[] value;
+        private int[] child;
+        private int[] sibling; // also the "next" link of the free list
+        private int used = 0;
+        private int free = NIL;
+
+        PairingHeapPool(int capacity) {
+            capacity = Math.max(1, capacity);
+            key = new long[capacity];
+            value = new int[capacity];
+            child = new int[capacity];
+            sibling = new int[capacity];
+        }
+
+        long key(int root) {
+            return key[root];
+        }
+
+        int value(int root) {
+            return value[root];
+        }
+
+        // Returns the new root.
+        int insert(int root, long k, int v) {
+            int node = allocate();
+            key[node] = k;
+            value[node] = v;
+            child[node] = NIL;
+            sibling[node] = NIL;
+            return meld(root, node);
+        }
+
+        // O(1): both heaps are consumed, the result is returned.
+        int meld(int a, int b) {
+            if (a == NIL) return b;
+            if (b == NIL) return a;
+            if (key[b] < key[a]) {
+                int t = a;
+                a = b;
+                b = t;
+            }
+            sibling[b] = child[a]; // b becomes first child of a
+            child[a] = b;
+            return a;
+        }
+
+        // Removes the root (read key/value first). Returns the new root.
+        int poll(int root) {
+            if (root == NIL) throw new NoSuchElementException();
+            int first = child[root];
+            release(root);
+
+            // Pass 1: meld pairs left -> right, chain results in reverse
+            int acc = NIL;
+            while (first != NIL) {
+                int a = first;
+                int b = sibling[a];
+                if (b == NIL) {
+                    sibling[a] = acc;
+                    acc = a;
+                    break;
+                }
+                first = sibling[b];
+                sibling[a] = NIL;
+                sibling[b] = NIL;
+                int m = meld(a, b);
+                sibling[m] = acc;
+                acc = m;
+            }
+
+            // Pass 2: meld right -> left
+            int result = NIL;
+            while (acc != NIL) {
+                int next = sibling[acc];
+                sibling[acc] = NIL;
+                result = meld(result, acc);
+                acc = next;
+            }
+            return result;
+        }
+
+        private int allocate() {
+            if (free != NIL) {
+                int node = free;
+                free = sibling[node];
+                return node;
+            }
+            if (used == key.length) {
+                int cap = 2 * used;
+                key = Arrays.copyOf(key, cap);
+                value = Arrays.copyOf(value, cap);
+                child = Arrays.copyOf(child, cap);
+                sibling = Arrays.copyOf(sibling, cap);
+            }
+            return used++;
+        }
+
+        private void release(int node) {
+            sibling[node] = free;
+            free = node;
+        }
+    }
+
+    static void pairingHeapExample() {
+        PairingHeapPool pool = new PairingHeapPool(16);
+
+        // Three independent queues (e.g. one per partition)
+        int q1 = PairingHeapPool.NIL;
+        int q2 = PairingHeapPool.NIL;
+        int q3 = PairingHeapPool.NIL;
+        q1 = pool.insert(q1, 7, 1);
+        q1 = pool.insert(q1, 2, 1);
+        q2 = pool.insert(q2, 5, 2);
+        q3 = pool.insert(q3, 1, 3);
+        q3 = pool.insert(q3, 9, 3);
+
+        int all = pool.meld(pool.meld(q1, q2), q3); // O(1) each
+
+        while (all != PairingHeapPool.NIL) {
+            System.out.print(pool.key(all) + " "); // 1 2 5 7 9
+            all = pool.poll(all);
+        }
+    }
+    */
+
+    /*
+    Notes:
+    - Handles are plain ints: after meld(a, b), use ONLY the returned root
+    - Greedy scheduling: one heap per machine / partition, meld on merge
+    - Merge K sorted lists needs only ONE heap of K heads: 14.14 is faster
+    - Amortized bounds: an individual poll() can be O(n) on a flat tree
+    */
+
+    /*
+    ----------------------------------------------------
+    14.14 Loser Tree (K-WAY MERGE OF SORTED RUNS)
+    ----------------------------------------------------
+
+    "Merge K sorted lists" with PriorityQueue:
+    - One (value, listIndex) object per element -> allocation
+    - poll() + add() per element: ~2 log2(K) comparisons + comparator calls
+
+    Tournament (loser) tree over K sources:
+    - Leaves = current head of each source
+    - Each internal node stores the LOSER of the match played there
+    - tree[0] = overall winner (the smallest head)
+
+    After emitting the winner, only ITS leaf changes:
+    - Replay matches on the path leaf -> root: exactly ceil(log2 K) compares
+    - Siblings are never re-read from elsewhere, no objects created
+
+    Ties go to the lower source index -> merge is stable.
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class LongArrayIterator implements PrimitiveIterator.OfLong {
+        private final long[] a;
+        private int i = 0;
+
+        LongArrayIterator(long[] a) {
+            this.a = a;
+        }
+
+        public boolean hasNext() {
+            return i < a.length;
+        }
+
+        public long nextLong() {
+            if (i == a.length) throw new NoSuchElementException();
+            return a[i++];
+        }
+    }
+
+    static class IntArrayIterator implements PrimitiveIterator.OfLong {
+        private final int[] a;
+        private int i = 0;
+
+        IntArrayIterator(int[] a) {
+            this.a = a;
+        }
+
+        public boolean hasNext() {
+            return i < a.length;
+        }
+
+        public long nextLong() {
+            if (i == a.length) throw new NoSuchElementException();
+            return a[i++]; // widened to long
+        }
+    }
+
+    static class LoserTree implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong[] sources;
+        private final int k;
+        private final long[] head;
+        private final boolean[] done;
+        private final int[] tree; // tree[0] = winner, tree[1..k-1] = losers
+        private int live;
+
+        LoserTree(PrimitiveIterator.OfLong... sources) {
+            this.sources = sources;
+            k = sources.length;
+            head = new long[k];
+            done = new boolean[k];
+            tree = new int[Math.max(1, k)];
+            live = k;
+            for (int i = 0; i < k; i++) {
+                advance(i);
+            }
+            if (k > 0) {
+                tree[0] = build(1);
+            }
+        }
+
+        // Node n has children 2n, 2n + 1; leaf of source i is node k + i.
+        private int build(int node) {
+            if (node >= k) {
+                return node - k;
+            }
+            int a = build(2 * node);
+            int b = build(2 * node + 1);
+            if (beats(a, b)) {
+                tree[node] = b;
+                return a;
+            }
+            tree[node] = a;
+            return b;
+        }
+
+        private boolean beats(int a, int b) {
+            if (done[a] != done[b]) {
+                return done[b]; // an exhausted source always loses
+            }
+            return head[a] < head[b] || (head[a] == head[b] && a < b);
+        }
+
+        private void advance(int i) {
+            if (sources[i].hasNext()) {
+                head[i] = sources[i].nextLong();
+            } else {
+                done[i] = true;
+                live--;
+            }
+        }
+
+        public boolean hasNext() {
+            return live > 0;
+        }
+
+        public long nextLong() {
+            if (live == 0) throw new NoSuchElementException();
+            int winner = tree[0];
+            long out = head[winner];
+            advance(winner);
+
+            for (int node = (k + winner) >>> 1; node > 0; node >>>= 1) {
+                int other = tree[node];
+                if (beats(other, winner)) {
+                    tree[node] = winner; // previous winner lost here
+                    winner = other;
+                }
+            }
+            tree[0] = winner;
+            return out;
+        }
+    }
+
+    static long[] mergeSorted(long[]... runs) {
+        PrimitiveIterator.OfLong[] sources = new PrimitiveIterator.OfLong[runs.length];
+        int total = 0;
+        for (int i = 0; i < runs.length; i++) {
+            sources[i] = new LongArrayIterator(runs[i]);
+            total += runs[i].length;
+        }
+
+        long[] out = new long[total];
+        LoserTree tree = new LoserTree(sources);
+        for (int i = 0; i < total; i++) {
+            out[i] = tree.nextLong();
+        }
+        return out;
+    }
+
+    static int[] mergeSorted(int[]... runs) {
+        PrimitiveIterator.OfLong[] sources = new PrimitiveIterator.OfLong[runs.length];
+        int total = 0;
+        for (int i = 0; i < runs.length; i++) {
+            sources[i] = new IntArrayIterator(runs[i]);
+            total += runs[i].length;
+        }
+
+        int[] out = new int[total];
+        LoserTree tree = new LoserTree(sources);
+        for (int i = 0; i < total; i++) {
+            out[i] = (int) tree.nextLong();
+        }
+        return out;
+    }
+
+    static void loserTreeExample() {
+        int[] merged = mergeSorted(
+            new int[] {1, 4, 9},
+            new int[] {2, 3, 10},
+            new int[] {},
+            new int[] {0, 5});
+        System.out.println(Arrays.toString(merged)); // [0, 1, 2, 3, 4, 5, 9, 10]
+    }
+    */
+
+    /*
+    Notes:
+    - Works for any K (not just powers of two)
+    - Sources may be any PrimitiveIterator.OfLong: file runs, generators
+      (the external sort in Section 15 merges its spilled runs this way)
+    - Only objects: one iterator per SOURCE, nothing per element
+    */
+
+    /*
+    ----------------------------------------------------
+    14.15 Bounded Top-K (PACKED KEYS + PARALLEL)
+    ----------------------------------------------------
+
+    topKExample (14.6) for EVERY element: box, add, maybe poll.
+    Most elements are too small to ever enter the top K.
+
+    Improvements:
+    1. Primitive min-heap of size K (root = current Kth largest = threshold)
+    2. x <= threshold -> skip WITHOUT touching the heap
+       (on random data, almost every element after warm-up is skipped)
+    3. (value, id) packed into ONE long instead of a Pair object:
+           packed = ((long) value << 32) | (id & 0xFFFFFFFFL)
+       value sits in the high bits -> long order == value order,
+       ties broken by id. No object, no comparator.
+    4. Parallel: top K of each array segment on the ForkJoin pool,
+       then top K of the (segments * K) survivors
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class TopK {
+        private final long[] heap; // min-heap of the K largest keys seen
+        private int size;
+
+        TopK(int k) {
+            if (k <= 0) throw new IllegalArgumentException("k must be positive: " + k);
+            heap = new long[k];
+        }
+
+        static long pack(int value, int id) {
+            return ((long) value << 32) | (id & 0xFFFFFFFFL);
+        }
+
+        static int value(long packed) {
+            return (int) (packed >> 32);
+        }
+
+        static int id(long packed) {
+            return (int) packed;
+        }
+
+        void offer(long x) {
+            if (size < heap.length) {
+                heap[size] = x;
+                siftUp(size++);
+            } else if (x > heap[0]) { // below threshold -> heap untouched
+                heap[0] = x;
+                siftDown(0);
+            }
+        }
+
+        // Largest first.
+        long[] result() {
+            long[] out = Arrays.copyOf(heap, size);
+            Arrays.sort(out);
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                long t = out[i];
+                out[i] = out[j];
+                out[j] = t;
+            }
+            return out;
+        }
+
+        private void siftUp(int i) {
+            long x = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= x) break;
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = x;
+        }
+
+        private void siftDown(int i) {
+            long x = heap[i];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (x <= heap[child]) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = x;
+        }
+    }
+
+    // Top k (value, index) pairs of arr, largest first, packed as in TopK.pack.
+    static long[] parallelTopK(int[] arr, int k) {
+        int segments = Runtime.getRuntime().availableProcessors() * 4;
+        int step = (arr.length + segments - 1) / segments;
+
+        long[][] partial = IntStream.range(0, segments).parallel()
+            .mapToObj(s -> {
+                TopK local = new TopK(k);
+                int end = Math.min(arr.length, (s + 1) * step);
+                for (int i = s * step; i < end; i++) {
+                    local.offer(TopK.pack(arr[i], i));
+                }
+                return local.result();
+            })
+            .toArray(long[][]::new);
+
+        TopK merged = new TopK(k);
+        for (long[] part : partial) {
+            for (long x : part) merged.offer(x);
+        }
+        return merged.result();
+    }
+
+    static void topKPackedExample() {
+        int[] arr = {5, 1, 9, 3, 9, 7};
+        for (long p : parallelTopK(arr, 3)) {
+            System.out.print(TopK.value(p) + "@" + TopK.id(p) + " "); // 9@4 9@2 7@5
+        }
+    }
+    */
+
+    /*
+    Notes:
+    - Ids are unique -> packed keys are unique -> parallel result equals
+      the sequential one exactly (no tie-order surprises)
+    - Negative values work: the sign lives in the high bits
+    - Parallel only pays off for large arrays (10^6+); below that use
+      one TopK on the calling thread
+    - Smallest K instead: offer(~x) and undo with ~ on the way out (14.9)
+    */
+
+    /*
+    ----------------------------------------------------
+    14.16 MultiQueue (CONCURRENT RELAXED PRIORITY QUEUE)
+    ----------------------------------------------------
+
+    Every heap above is single-threaded.
+    PriorityBlockingQueue = ONE heap behind ONE lock:
+    - All threads serialize on that lock -> no scaling past ~2 threads
+
+    MultiQueue (relaxed ordering):
+    - c * P independent heaps (P = threads, c = 2..4), each with its own lock
+    - add:  push into a RANDOM heap
+    - poll: look at the tops of TWO random heaps, pop from the better one
+      ("power of two choices")
+    - tryLock: a busy heap is skipped, never waited on
+
+    Trade-off: poll() returns "one of the smallest", not always THE smallest.
+    The rank error (how many smaller keys were still queued) stays small
+    on average and is measured below. Parallel Dijkstra / schedulers
+    tolerate it: they re-check or re-relax anyway.
+    */
+
+    /*
+    Runnable example (reuses LongHeap from 14.9):
+    */
+
+    /*
+    static final long EMPTY = Long.MAX_VALUE; // keys must be < Long.MAX_VALUE
+
+    interface ConcurrentLongQueue {
+        void add(long x);
+
+        long poll(); // EMPTY if nothing was found
+    }
+
+    static class MultiQueue implements ConcurrentLongQueue {
+        private static final class Shard {
+            final ReentrantLock lock = new ReentrantLock();
+            final LongHeap heap = new LongHeap(64, false);
+            volatile long top = EMPTY; // lock-free peek for the two-choice test
+
+            void push(long x) {
+                heap.add(x);
+                top = heap.peek();
+            }
+
+            long pop() {
+                long x = heap.poll();
+                top = heap.isEmpty() ? EMPTY : heap.peek();
+                return x;
+            }
+        }
+
+        private final Shard[] shards;
+
+        MultiQueue(int c, int threads) {
+            shards = new Shard[Math.max(2, c * threads)];
+            for (int i = 0; i < shards.length; i++) {
+                shards[i] = new Shard();
+            }
+        }
+
+        public void add(long x) {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+            while (true) {
+                Shard s = shards[rnd.nextInt(shards.length)];
+                if (s.lock.tryLock()) {
+                    try {
+                        s.push(x);
+                    } finally {
+                        s.lock.unlock();
+                    }
+                    return;
+                }
+            }
+        }
+
+        public long poll() {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+            for (int misses = 0; misses < shards.length; ) {
+                Shard a = shards[rnd.nextInt(shards.length)];
+                Shard b = shards[rnd.nextInt(shards.length)];
+                Shard s = a.top <= b.top ? a : b;
+                if (s.top == EMPTY) {
+                    misses++;
+                    continue;
+                }
+                if (s.lock.tryLock()) {
+                    try {
+                        if (!s.heap.isEmpty()) return s.pop();
+                    } finally {
+                        s.lock.unlock();
+                    }
+                }
+            }
+
+            // Mostly empty: sweep every shard once before reporting EMPTY
+            for (Shard s : shards) {
+                s.lock.lock();
+                try {
+                    if (!s.heap.isEmpty()) return s.pop();
+                } finally {
+                    s.lock.unlock();
+                }
+            }
+            return EMPTY;
+        }
+    }
+
+    // Rank error: for each poll, how many smaller keys were still queued.
+    static void rankErrorExample(int n, int c, int threads) {
+        MultiQueue mq = new MultiQueue(c, threads);
+        int[] fenwick = new int[n + 1]; // counts keys still in the queue
+
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) keys[i] = i;
+        Random rnd = new Random(1);
+        for (int i = n - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int t = keys[i];
+            keys[i] = keys[j];
+            keys[j] = t;
+        }
+        for (int k : keys) {
+            mq.add(k);
+            for (int i = k + 1; i <= n; i += i & -i) fenwick[i]++;
+        }
+
+        long sum = 0;
+        int max = 0;
+        for (int step = 0; step < n; step++) {
+            int k = (int) mq.poll();
+            int rank = 0; // present keys smaller than k
+            for (int i = k; i > 0; i -= i & -i) rank += fenwick[i];
+            for (int i = k + 1; i <= n; i += i & -i) fenwick[i]--;
+            sum += rank;
+            max = Math.max(max, rank);
+        }
+        System.out.println("shards=" + c * threads
+            + " mean rank error=" + (double) sum / n + " max=" + max);
+    }
+
+    static ConcurrentLongQueue priorityBlockingQueue() {
+        PriorityBlockingQueue<Long> q = new PriorityBlockingQueue<>();
+        return new ConcurrentLongQueue() {
+            public void add(long x) {
+                q.add(x);
+            }
+
+            public long poll() {
+                Long v = q.poll();
+                return v == null ? EMPTY : v;
+            }
+        };
+    }
+
+    static ConcurrentLongQueue skipListSet() {
+        ConcurrentSkipListSet<Long> q = new ConcurrentSkipListSet<>();
+        return new ConcurrentLongQueue() {
+            public void add(long x) {
+                q.add(x); // random 63-bit keys: duplicates are negligible
+            }
+
+            public long poll() {
+                Long v = q.pollFirst();
+                return v == null ? EMPTY : v;
+            }
+        };
+    }
+
+    // Mixed 50% add / 50% poll after a 10^6 prefill; returns ops per second.
+    static double throughput(ConcurrentLongQueue pq, int threads, int opsPerThread)
+            throws InterruptedException {
+        for (int i = 0; i < 1_000_000; i++) {
+            pq.add(ThreadLocalRandom.current().nextLong(EMPTY));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < opsPerThread; i++) {
+                    if (rnd.nextBoolean()) {
+                        pq.add(rnd.nextLong(EMPTY));
+                    } else {
+                        pq.poll();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread w : workers) w.join();
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        return (double) threads * opsPerThread / seconds;
+    }
+
+    static void multiQueueBenchmark() throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            System.out.printf("threads=%d  MultiQueue=%.0f  PBQ=%.0f  SkipList=%.0f ops/s%n",
+                threads,
+                throughput(new MultiQueue(2, threads), threads, 1_000_000),
+                throughput(priorityBlockingQueue(), threads, 1_000_000),
+                throughput(skipListSet(), threads, 1_000_000));
+        }
+        rankErrorExample(1_000_000, 2, cores);
+    }
+    */
+
+    /*
+    Notes:
+    - Rough numbers only: each run includes JIT warm-up; for publishable
+      results wrap throughput() in JMH with @Threads (see 17.13)
+    - Rank error grows with the number of shards (about linearly in c * P)
+    - EMPTY may be returned while another thread is mid-add: callers that
+      need termination must count outstanding work themselves
+    */
+
+    /*
+    ----------------------------------------------------
+    14.17 Hierarchical Timing Wheel (EVENT SIMULATION)
+    ----------------------------------------------------
+
+    Discrete-event simulation with PriorityQueue<Pair>:
+    - O(log n) per event + one object per event
+    - Cancelling an event = O(n) pq.remove(obj)
+
+    When keys are integer TICKS, a timing wheel does better:
+    - Level 0: 256 slots, one per tick        (ticks now .. now + 255)
+    - Level 1: 256 slots, one per 256 ticks
+    - Level l: one slot per 256^l ticks       (8 levels cover 64-bit ticks)
+    - Event goes to the level of the HIGHEST 8-bit digit where due and
+      now differ, slot = that digit of due
+    - When now crosses a level-l boundary, that slot "cascades":
+      its events are re-placed into lower levels
+
+    Cost:
+    - schedule: O(1)  (compute level + slot, link into list)
+    - cancel:   O(1)  (doubly linked, intrusive: unlink by id)
+    - advance:  amortized O(1) per tick (each event cascades <= 8 times);
+      runs of empty levels are skipped in one jump
+
+    Storage: events are int ids into primitive arrays,
+    lists are threaded through next[] / prev[] (no node objects).
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class TimingWheel {
+        static final int NIL = -1;
+        private static final int BITS = 8;
+        private static final int SLOTS = 1 << BITS;
+        private static final int LEVELS = 64 / BITS;
+
+        private final int[] heads = new int[LEVELS * SLOTS];
+        private final int[] count = new int[LEVELS];
+
+        // Event pool (intrusive doubly linked lists)
+        private long[] due;
+        private int[] payload;
+        private int[] next;
+        private int[] prev;
+        private int[] slotOf; // list index, or NIL when not scheduled
+        private int used = 0;
+        private int free = NIL;
+
+        private long now;
+        private int lastFired = NIL;
+
+        TimingWheel(long startTick, int capacity) {
+            if (startTick < 0) throw new IllegalArgumentException("ticks must be >= 0");
+            now = startTick;
+            Arrays.fill(heads, NIL);
+            capacity = Math.max(1, capacity);
+            due = new long[capacity];
+            payload = new int[capacity];
+            next = new int[capacity];
+            prev = new int[capacity];
+            slotOf = new int[capacity];
+        }
+
+        long now() {
+            return now;
+        }
+
+        long due(int id) {
+            return due[id];
+        }
+
+        int payload(int id) {
+            return payload[id];
+        }
+
+        // Returns an id usable with cancel(). Past ticks fire at now.
+        int schedule(long tick, int value) {
+            int id = allocate();
+            due[id] = Math.max(tick, now);
+            payload[id] = value;
+            place(id);
+            return id;
+        }
+
+        boolean cancel(int id) {
+            if (slotOf[id] == NIL) return false;
+            unlink(id);
+            release(id);
+            return true;
+        }
+
+        // Next event with due <= target, in due order; NIL when none.
+        // The returned id stays readable until the next pollUntil() call.
+        int pollUntil(long target) {
+            if (lastFired != NIL) {
+                release(lastFired);
+                lastFired = NIL;
+            }
+            while (true) {
+                int head = heads[(int) (now & (SLOTS - 1))];
+                if (head != NIL) { // level 0, current slot: due == now
+                    unlink(head);
+                    lastFired = head;
+                    return head;
+                }
+                if (now >= target) return NIL;
+                step(target);
+            }
+        }
+
+        private void step(long target) {
+            // Levels 0..empty-1 hold nothing: jump to the next level-'empty' boundary
+            int empty = 0;
+            while (empty < LEVELS && count[empty] == 0) empty++;
+            if (empty == LEVELS) {
+                now = target;
+                return;
+            }
+            long unit = 1L << (BITS * empty);
+            long boundary = (now & -unit) + unit;
+            now = Math.min(boundary, target);
+
+            if ((now & (SLOTS - 1)) == 0) {
+                // cascade from the highest boundary crossed down to level 1
+                int top = Long.numberOfTrailingZeros(now) / BITS;
+                for (int level = Math.min(top, LEVELS - 1); level >= 1; level--) {
+                    cascade(level);
+                }
+            }
+        }
+
+        private void cascade(int level) {
+            int list = level * SLOTS + (int) ((now >>> (BITS * level)) & (SLOTS - 1));
+            int id = heads[list];
+            heads[list] = NIL;
+            while (id != NIL) {
+                int nxt = next[id];
+                count[level]--;
+                place(id);
+                id = nxt;
+            }
+        }
+
+        private void place(int id) {
+            long diff = due[id] ^ now;
+            int level = diff == 0 ? 0 : (63 - Long.numberOfLeadingZeros(diff)) / BITS;
+            int list = level * SLOTS + (int) ((due[id] >>> (BITS * level)) & (SLOTS - 1));
+
+            int head = heads[list];
+            next[id] = head;
+            prev[id] = NIL;
+            if (head != NIL) prev[head] = id;
+            heads[list] = id;
+            slotOf[id] = list;
+            count[level]++;
+        }
+
+        private void unlink(int id) {
+            int list = slotOf[id];
+            if (prev[id] != NIL) next[prev[id]] = next[id];
+            else heads[list] = next[id];
+            if (next[id] != NIL) prev[next[id]] = prev[id];
+            slotOf[id] = NIL;
+            count[list / SLOTS]--;
+        }
+
+        private int allocate() {
+            if (free != NIL) {
+                int id = free;
+                free = next[id];
+                return id;
+            }
+            if (used == due.length) {
+                int cap = 2 * used;
+                due = Arrays.copyOf(due, cap);
+                payload = Arrays.copyOf(payload, cap);
+                next = Arrays.copyOf(next, cap);
+                prev = Arrays.copyOf(prev, cap);
+                slotOf = Arrays.copyOf(slotOf, cap);
+            }
+            return used++;
+        }
+
+        private void release(int id) {
+            slotOf[id] = NIL;
+            next[id] = free;
+            free = id;
+        }
+    }
+
+    static void timingWheelExample() {
+        TimingWheel wheel = new TimingWheel(0, 16);
+        wheel.schedule(70_000, 3);
+        wheel.schedule(5, 1);
+        int cancelled = wheel.schedule(300, 99);
+        wheel.schedule(300, 2);
+        wheel.cancel(cancelled);
+
+        int id;
+        while ((id = wheel.pollUntil(1_000_000)) != TimingWheel.NIL) {
+            System.out.print(wheel.due(id) + ":" + wheel.payload(id) + " ");
+            // handlers may schedule(...) follow-up events here
+        }
+        // 5:1 300:2 70000:3
+    }
+    */
+
+    /*
+    Notes:
+    - Events in the SAME tick come out in no particular order;
+      add a sequence number to the payload if ties must be FIFO
+    - Ticks must be >= 0 (digits are read from the raw bits)
+    - Use PriorityQueue / 14.9 heaps when keys are not integer ticks
+    */
+
+    /*
+    ----------------------------------------------------
+    14.18 Struct-of-Arrays Heap (NO Pair OBJECTS)
+    ----------------------------------------------------
+
+    customObjectHeap (14.4) allocates one Pair(val, freq) per entry
+    and calls a lambda comparator on every sift step.
+
+    Struct-of-arrays (SoA) instead:
+    - Each FIELD is its own int[] column: val[row], freq[row]
+    - A record is just a row index
+    - The heap orders row indices (int[]), comparing column values
+    - Key spec: primary field + secondary field, each asc or desc
+      (desc uses the ~x trick from 14.9: no overflow, no branches)
+
+    poll() returns the row; read any field with get(row, field).
+    Zero objects per element: only the columns and the index heap grow.
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class FieldHeap {
+        private int[][] cols;  // cols[field][row]
+        private int[] heap;    // row indices, heap-ordered
+        private int rows = 0;
+        private int size = 0;
+        private final int primary, secondary;
+        private final int primaryFlip, secondaryFlip; // 0 = asc, -1 = desc
+
+        FieldHeap(int fields, int capacity,
+                  int primary, boolean primaryDesc,
+                  int secondary, boolean secondaryDesc) {
+            capacity = Math.max(1, capacity);
+            cols = new int[fields][capacity];
+            heap = new int[capacity];
+            this.primary = primary;
+            this.secondary = secondary;
+            primaryFlip = primaryDesc ? -1 : 0;
+            secondaryFlip = secondaryDesc ? -1 : 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        // Reserve a row, fill it with set(), then push(row).
+        int newRow() {
+            if (rows == heap.length) {
+                int cap = 2 * rows;
+                for (int f = 0; f < cols.length; f++) {
+                    cols[f] = Arrays.copyOf(cols[f], cap);
+                }
+                heap = Arrays.copyOf(heap, cap);
+            }
+            return rows++;
+        }
+
+        void set(int row, int field, int value) {
+            cols[field][row] = value;
+        }
+
+        int get(int row, int field) {
+            return cols[field][row];
+        }
+
+        // Shortcut for the common two-field record.
+        int add(int f0, int f1) {
+            int row = newRow();
+            cols[0][row] = f0;
+            cols[1][row] = f1;
+            push(row);
+            return row;
+        }
+
+        void push(int row) {
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!less(row, heap[parent])) break;
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = row;
+        }
+
+        int peek() {
+            if (size == 0) throw new NoSuchElementException();
+            return heap[0];
+        }
+
+        int poll() {
+            int top = peek();
+            int row = heap[--size];
+            int i = 0;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && less(heap[child + 1], heap[child])) child++;
+                if (!less(heap[child], row)) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = row;
+            return top;
+        }
+
+        private boolean less(int r1, int r2) {
+            int a = cols[primary][r1] ^ primaryFlip;
+            int b = cols[primary][r2] ^ primaryFlip;
+            if (a != b) return a < b;
+            return (cols[secondary][r1] ^ secondaryFlip) < (cols[secondary][r2] ^ secondaryFlip);
+        }
+    }
+
+    static final int VAL = 0;
+    static final int FREQ = 1;
+
+    // Most frequent first, smaller value first on ties.
+    static void frequencyRankingExample(int[] arr, int k) {
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        FieldHeap pq = new FieldHeap(2, 16, FREQ, true, VAL, false);
+        for (int i = 0; i < sorted.length; ) {
+            int j = i;
+            while (j < sorted.length && sorted[j] == sorted[i]) j++;
+            pq.add(sorted[i], j - i); // (val, freq) without a Pair
+            i = j;
+        }
+
+        for (int n = 0; n < k && !pq.isEmpty(); n++) {
+            int row = pq.poll();
+            System.out.print(pq.get(row, VAL) + "x" + pq.get(row, FREQ) + " ");
+        }
+        // {1, 2, 2, 3, 3, 3, 2}, k = 2 -> 2x3 3x3
+    }
+    */
+
+    /*
+    Notes:
+    - Rows are append-only: polled rows keep their data until you
+      build a new heap (perfect for "rank then discard" jobs)
+    - More than two key fields: extend less() the same way
+    - Columns are int[]: store long fields as two ints or add a long[] column
+    */
+
+    /*
+    ----------------------------------------------------
+    14.19 DSA RULES FOR PRIORITYQUEUE
     ----------------------------------------------------
 
     - Default is min-heap
@@ -211,6 +1983,16 @@ public class PriorityQueueDSA {
     - Never assume sorted iteration
     - Use Integer.compare to avoid overflow
     - Limit heap size for Top-K
+    - Hot paths over ints/longs: primitive heap (14.9), not PriorityQueue<Integer>
+    - Dijkstra on big graphs: indexed heap (14.10) instead of duplicate entries
+    - Heaps beyond ~10^6 elements: try a 4-ary heap (14.11)
+    - Monotone integer keys (Dijkstra, simulations): radix heap (14.12)
+    - Many queues that get merged: pairing heap (14.13), not addAll
+    - Merging K sorted runs: loser tree (14.14)
+    - Top-K over huge arrays: threshold skip + packed keys (14.15)
+    - Many threads sharing a queue: MultiQueue (14.16), not PriorityBlockingQueue
+    - Integer-tick event simulation with cancels: timing wheel (14.17)
+    - Multi-field records in hot loops: columns + index heap (14.18), not Pair
     */
 
     public static void main(String[] args) {
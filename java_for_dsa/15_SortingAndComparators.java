@@ -11,11 +11,22 @@ Scope:
 - Custom sorting
 - Stability and performance notes
 - DSA pitfalls with comparators
+- Radix sort for huge primitive arrays
+- Packed-key sorting of int pairs
+- Stable argsort without boxing
+- External merge sort for data larger than memory
+- Selection (nth_element) and partial sort
 
 Sorting correctness is as important as sorting speed.
 */
 
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
 import java.util.*;
+import java.util.stream.IntStream;
 
 public class SortingAndComparators {
 
@@ -204,13 +215,937 @@ public class SortingAndComparators {
 
     /*
     ----------------------------------------------------
-    15.9 DSA RULES FOR SORTING
+    15.9 LSD Radix Sort (int[] / long[] / float[] / double[])
+    ----------------------------------------------------
+
+    Arrays.sort(int[]) = comparison sort, O(n log n).
+    Radix sort never compares: it distributes by DIGITS.
+
+    LSD (least significant digit first), 8-bit digits:
+    - int: 4 passes, long: 8 passes, each pass = histogram + scatter
+    - Each pass is STABLE, so earlier (lower) digits stay in order
+    - O(passes * n) with sequential memory access
+
+    Java details:
+    - Signed ints: flip the sign bit (x ^ MIN_VALUE) -> negatives first
+    - float / double: map bits so that SIGNED int order == float order:
+          bits ^ ((bits >> 31) & 0x7FFFFFFF)
+      (negatives: flip magnitude bits; the map is its own inverse)
+    - Pass skipped when every key has the same digit (small value ranges)
+
+    Parallel (large arrays):
+    - Split the array into blocks, one histogram per block (parallel)
+    - Prefix sums over (digit, block) give each block its own output
+      positions -> blocks scatter in parallel, still stable
+
+    Small arrays: Arrays.sort is faster (radix has a fixed cost per pass).
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static final int RADIX_BITS = 8;
+    static final int BUCKETS = 1 << RADIX_BITS;
+    static final int RADIX_MIN_SIZE = 1 << 16;      // below: Arrays.sort
+    static final int RADIX_PARALLEL_SIZE = 1 << 22; // above: parallel passes
+
+    static int radixBlocks(int n) {
+        return n < RADIX_PARALLEL_SIZE ? 1 : Runtime.getRuntime().availableProcessors();
+    }
+
+    // Turns per-block counts into per-block start offsets; false = pass is a no-op.
+    static boolean radixOffsets(int[][] count, int n) {
+        int running = 0;
+        for (int d = 0; d < BUCKETS; d++) {
+            int total = 0;
+            for (int[] c : count) {
+                int k = c[d];
+                c[d] = running + total;
+                total += k;
+            }
+            if (total == n) return false; // every key in one bucket
+            running += total;
+        }
+        return true;
+    }
+
+    static void radixSort(int[] a) {
+        radixSort(a, 0, a.length);
+    }
+
+    // Sorts a[from, to); the temp array only holds to - from values.
+    static void radixSort(int[] a, int from, int to) {
+        int n = to - from;
+        if (n < RADIX_MIN_SIZE) {
+            Arrays.sort(a, from, to);
+            return;
+        }
+        int blocks = radixBlocks(n);
+        int step = (n + blocks - 1) / blocks;
+        int[][] count = new int[blocks][BUCKETS];
+        int[] src = a;
+        int[] dst = new int[n];
+        int srcOff = from;
+        int dstOff = 0;
+
+        for (int shift = 0; shift < 32; shift += RADIX_BITS) {
+            final int sh = shift;
+            final int[] s = src;
+            final int[] d = dst;
+            final int sOff = srcOff;
+            final int dOff = dstOff;
+
+            IntStream.range(0, blocks).parallel().forEach(b -> {
+                int[] c = count[b];
+                Arrays.fill(c, 0);
+                for (int i = b * step, end = Math.min(n, i + step); i < end; i++) {
+                    c[((s[sOff + i] ^ Integer.MIN_VALUE) >>> sh) & (BUCKETS - 1)]++;
+                }
+            });
+            if (!radixOffsets(count, n)) continue;
+
+            IntStream.range(0, blocks).parallel().forEach(b -> {
+                int[] c = count[b];
+                for (int i = b * step, end = Math.min(n, i + step); i < end; i++) {
+                    d[dOff + c[((s[sOff + i] ^ Integer.MIN_VALUE) >>> sh) & (BUCKETS - 1)]++] = s[sOff + i];
+                }
+            });
+            src = d;
+            dst = s;
+            srcOff = dOff;
+            dstOff = sOff;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    static void radixSort(long[] a) {
+        radixSort(a, 0, a.length);
+    }
+
+    // Sorts a[from, to); the temp array only holds to - from values.
+    static void radixSort(long[] a, int from, int to) {
+        int n = to - from;
+        if (n < RADIX_MIN_SIZE) {
+            Arrays.sort(a, from, to);
+            return;
+        }
+        int blocks = radixBlocks(n);
+        int step = (n + blocks - 1) / blocks;
+        int[][] count = new int[blocks][BUCKETS];
+        long[] src = a;
+        long[] dst = new long[n];
+        int srcOff = from;
+        int dstOff = 0;
+
+        for (int shift = 0; shift < 64; shift += RADIX_BITS) {
+            final int sh = shift;
+            final long[] s = src;
+            final long[] d = dst;
+            final int sOff = srcOff;
+            final int dOff = dstOff;
+
+            IntStream.range(0, blocks).parallel().forEach(b -> {
+                int[] c = count[b];
+                Arrays.fill(c, 0);
+                for (int i = b * step, end = Math.min(n, i + step); i < end; i++) {
+                    c[(int) ((s[sOff + i] ^ Long.MIN_VALUE) >>> sh) & (BUCKETS - 1)]++;
+                }
+            });
+            if (!radixOffsets(count, n)) continue;
+
+            IntStream.range(0, blocks).parallel().forEach(b -> {
+                int[] c = count[b];
+                for (int i = b * step, end = Math.min(n, i + step); i < end; i++) {
+                    d[dOff + c[(int) ((s[sOff + i] ^ Long.MIN_VALUE) >>> sh) & (BUCKETS - 1)]++] = s[sOff + i];
+                }
+            });
+            src = d;
+            dst = s;
+            srcOff = dOff;
+            dstOff = sOff;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    static void radixSort(float[] a) {
+        if (a.length < RADIX_MIN_SIZE) {
+            Arrays.sort(a);
+            return;
+        }
+        int[] keys = new int[a.length];
+        for (int i = 0; i < a.length; i++) {
+            int bits = Float.floatToIntBits(a[i]); // canonical NaN
+            keys[i] = bits ^ ((bits >> 31) & 0x7FFFFFFF);
+        }
+        radixSort(keys);
+        for (int i = 0; i < a.length; i++) {
+            int k = keys[i];
+            a[i] = Float.intBitsToFloat(k ^ ((k >> 31) & 0x7FFFFFFF));
+        }
+    }
+
+    static void radixSort(double[] a) {
+        if (a.length < RADIX_MIN_SIZE) {
+            Arrays.sort(a);
+            return;
+        }
+        long[] keys = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            long bits = Double.doubleToLongBits(a[i]);
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        radixSort(keys);
+        for (int i = 0; i < a.length; i++) {
+            long k = keys[i];
+            a[i] = Double.longBitsToDouble(k ^ ((k >> 63) & Long.MAX_VALUE));
+        }
+    }
+
+    static void radixSortExample() {
+        int[] arr = new Random(1).ints(1_000_000).toArray();
+        radixSort(arr);
+        System.out.println(arr[0] <= arr[1]); // true
+    }
+    */
+
+    /*
+    Notes:
+    - Extra memory: one temporary array of size n (Arrays.sort needs none)
+    - Same order as Arrays.sort, including -0.0 < 0.0 and NaN last
+    - Digit width: 8 bits keeps the 256-entry histogram in L1;
+      11 bits (3 int passes) or 16 bits (2 passes) trade cache for passes
+      -> benchmark on the target machine before changing RADIX_BITS
+    - Thresholds are starting points, not universal truths
+    */
+
+    /*
+    ----------------------------------------------------
+    15.10 Packed-Key Pair Sort (int[][] WITHOUT COMPARATOR)
+    ----------------------------------------------------
+
+    sort2DArray (15.6) on 10^7 intervals / edges:
+    - 10^7 separately allocated int[2] rows -> pointer chasing
+    - TimSort on objects + lambda comparator call per comparison
+
+    Pack each pair into ONE long whose natural order is (a, b) order:
+
+        key = ((long) a << 32) | ((b ^ Integer.MIN_VALUE) & 0xFFFFFFFFL)
+
+    - a in the high half: signed long order == signed a order
+    - b in the low half is read UNSIGNED, so flip its sign bit first
+      (otherwise negative b would sort after positive b)
+
+    Then sort a long[] with a primitive sort (radix sort from 15.9, or
+    Arrays.sort) and unpack:
+
+        a = (int) (key >> 32)
+        b = (int) key ^ Integer.MIN_VALUE
+
+    int[][] rows: do NOT write the unpacked values back into the rows
+    (extra columns would stay behind, shared rows would be clobbered).
+    Argsort the keys (15.11) and reorder the row REFERENCES instead.
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static long packPair(int a, int b) {
+        return ((long) a << 32) | ((b ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    static int pairFirst(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int pairSecond(long key) {
+        return (int) key ^ Integer.MIN_VALUE;
+    }
+
+    // Sorts rows by (row[0], row[1]), stable; rows move whole, other columns too.
+    static void sortPairs(int[][] rows) {
+        long[] keys = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            keys[i] = packPair(rows[i][0], rows[i][1]);
+        }
+        int[] perm = argsort(keys); // 15.11
+        int[][] sorted = new int[rows.length][];
+        for (int i = 0; i < rows.length; i++) {
+            sorted[i] = rows[perm[i]];
+        }
+        System.arraycopy(sorted, 0, rows, 0, rows.length);
+    }
+
+    // Flat layout: pairs[2 * i] = a, pairs[2 * i + 1] = b (no rows at all).
+    static void sortPairsFlat(int[] pairs) {
+        int n = pairs.length / 2;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = packPair(pairs[2 * i], pairs[2 * i + 1]);
+        }
+        radixSort(keys);
+        for (int i = 0; i < n; i++) {
+            pairs[2 * i] = pairFirst(keys[i]);
+            pairs[2 * i + 1] = pairSecond(keys[i]);
+        }
+    }
+
+    static void packedPairSortExample() {
+        int[][] arr = {{1, 3}, {2, 2}, {1, 2}, {-1, -5}, {1, -2}};
+        sortPairs(arr);
+        System.out.println(Arrays.deepToString(arr));
+        // [[-1, -5], [1, -2], [1, 2], [1, 3], [2, 2]]
+    }
+    */
+
+    /*
+    Notes:
+    - Same result as the 15.6 comparator: a ascending, then b ascending,
+      ties in input order (both are stable), any row length
+    - Descending on a field: pack ~a (or ~b) instead, unpack with ~ again
+    - Columns kept outside the rows (edge weight, id arrays)? Reorder them
+      by the same argsort permutation
+    - Best of all: keep the data as long[] keys from the start, skip rows
+    */
+
+    /*
+    ----------------------------------------------------
+    15.11 Argsort (STABLE INDEX PERMUTATION, NO BOXING)
+    ----------------------------------------------------
+
+    "Sort indices by key" today:
+        Integer[] idx = {0, 1, ..., n - 1};
+        Arrays.sort(idx, (i, j) -> Integer.compare(key[i], key[j]));
+    - n Integer objects + comparator call per comparison
+    - Stable only because TimSort on objects is stable
+
+    Primitive argsort returns int[] perm such that
+        key[perm[0]] <= key[perm[1]] <= ...
+    and equal keys keep their original index order (STABLE).
+
+    int keys:
+    - Pack (key, index) into one long: key high, index low
+    - Sort the longs (15.9), read the index back from the low half
+    - Index as tie-breaker = stability for free
+
+    long keys (no room to pack the index):
+    - LSD radix sort of (key, index) pairs in two parallel arrays
+    - Each LSD pass is stable -> whole sort is stable
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static int[] argsort(int[] keys) {
+        int n = keys.length;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) keys[i] << 32) | i; // i >= 0: no sign smear
+        }
+        radixSort(packed);
+        int[] perm = new int[n];
+        for (int i = 0; i < n; i++) {
+            perm[i] = (int) packed[i];
+        }
+        return perm;
+    }
+
+    static int[] argsort(long[] keys) {
+        int n = keys.length;
+        long[] k = new long[n];
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) {
+            k[i] = keys[i] ^ Long.MIN_VALUE; // unsigned digit order == signed order
+            idx[i] = i;
+        }
+        long[] k2 = new long[n];
+        int[] idx2 = new int[n];
+        int[] count = new int[BUCKETS];
+
+        for (int shift = 0; shift < 64; shift += RADIX_BITS) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < n; i++) {
+                count[(int) (k[i] >>> shift) & (BUCKETS - 1)]++;
+            }
+            boolean skip = false;
+            int running = 0;
+            for (int d = 0; d < BUCKETS; d++) {
+                if (count[d] == n) skip = true;
+                int c = count[d];
+                count[d] = running;
+                running += c;
+            }
+            if (skip) continue;
+
+            for (int i = 0; i < n; i++) {
+                int pos = count[(int) (k[i] >>> shift) & (BUCKETS - 1)]++;
+                k2[pos] = k[i];
+                idx2[pos] = idx[i];
+            }
+            long[] tk = k;
+            k = k2;
+            k2 = tk;
+            int[] ti = idx;
+            idx = idx2;
+            idx2 = ti;
+        }
+        return idx;
+    }
+
+    static void argsortExample() {
+        int[] score = {30, 10, 20, 10};
+        int[] perm = argsort(score);
+        System.out.println(Arrays.toString(perm)); // [1, 3, 2, 0]  (1 before 3: stable)
+
+        // Multi-key: sort by secondary first, then STABLE sort by primary
+        int[] primary = {2, 1, 2, 1};
+        int[] secondary = {5, 7, 3, 1};
+        int[] bySecondary = argsort(secondary);
+        int[] primaryInThatOrder = new int[primary.length];
+        for (int i = 0; i < primary.length; i++) {
+            primaryInThatOrder[i] = primary[bySecondary[i]];
+        }
+        int[] step = argsort(primaryInThatOrder);
+        int[] order = new int[primary.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = bySecondary[step[i]];
+        }
+        System.out.println(Arrays.toString(order)); // [3, 1, 2, 0]
+    }
+    */
+
+    /*
+    Notes:
+    - int version: the signed key sits in the high half and the index is
+      never negative, so long order == (key, index) order
+    - Descending: argsort ~key (still stable: equal keys stay in index order)
+    - The long version is single-threaded; for 10^8 keys split it the way
+      15.9 does (per-block histograms + parallel scatter)
+    */
+
+    /*
+    ----------------------------------------------------
+    15.12 External Merge Sort (DATA LARGER THAN THE HEAP)
+    ----------------------------------------------------
+
+    Everything above sorts IN MEMORY. A 50 GB file of longs does not fit.
+
+    External merge sort:
+    1. RUN PHASE: read a chunk that fits the memory budget, sort it
+       (radix sort, 15.9), spill it to a temp file -> one sorted "run"
+    2. MERGE PHASE: K-way merge the runs (loser tree, 14.14)
+       - Each run is read through its own large buffer: few big
+         sequential reads, and the OS read-ahead prefetches the next block
+       - Too many runs for one merge? Merge in groups of fanIn,
+         repeat until one run is left (extra passes re-read everything)
+
+    Memory budget split:
+    - Run phase: chunk long[] + radix temp array = 16 bytes per value
+    - Merge phase: (fanIn + 1) buffers (inputs + output)
+
+    Open files: one merge holds (fanIn + 1) files open. fanIn is capped
+    at 512, well below the common Linux default "ulimit -n" of 1024.
+
+    File format: raw little-endian values, 4-byte ints or 8-byte longs
+    (ints are widened to long while sorting, written back as ints).
+
+    Metrics worth watching: bytes spilled, number of runs, merge fan-in,
+    merge passes. More than one merge pass = budget too small.
+    */
+
+    /*
+    Runnable example (needs LoserTree from 14.14 copied next to it):
+    */
+
+    /*
+    static final int MIN_RUN_BUFFER = 1 << 16;
+    static final int MAX_FAN_IN = 512; // + output file, under ulimit -n 1024
+
+    static final class ExternalSortStats {
+        long bytesSpilled;
+        int runs;
+        int maxFanIn;
+        int mergePasses;
+
+        @Override
+        public String toString() {
+            return "spilled=" + bytesSpilled + "B runs=" + runs
+                + " fanIn=" + maxFanIn + " mergePasses=" + mergePasses;
+        }
+    }
+
+    // Buffered sequential reader of raw little-endian values.
+    static final class ValueReader implements PrimitiveIterator.OfLong, Closeable {
+        private final FileChannel ch;
+        private final ByteBuffer io;
+        private final int width;
+
+        ValueReader(Path path, int width, int bufferBytes) throws IOException {
+            ch = FileChannel.open(path, StandardOpenOption.READ);
+            io = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            io.limit(0);
+            this.width = width;
+        }
+
+        public boolean hasNext() {
+            if (io.remaining() >= width) return true;
+            try {
+                io.compact();
+                boolean eof = false;
+                while (io.position() < width && !eof) {
+                    eof = ch.read(io) < 0;
+                }
+                io.flip();
+                if (eof && io.hasRemaining()) {
+                    throw new IOException("truncated value at end of file");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return io.remaining() >= width;
+        }
+
+        public long nextLong() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return width == 4 ? io.getInt() : io.getLong();
+        }
+
+        @Override
+        public void close() throws IOException {
+            ch.close();
+        }
+    }
+
+    static final class ValueWriter implements Closeable {
+        private final FileChannel ch;
+        private final ByteBuffer io;
+        private final int width;
+        long bytesWritten;
+
+        ValueWriter(Path path, int width, int bufferBytes) throws IOException {
+            ch = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            io = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            this.width = width;
+        }
+
+        void write(long v) throws IOException {
+            if (io.remaining() < width) drain();
+            if (width == 4) io.putInt((int) v);
+            else io.putLong(v);
+            bytesWritten += width;
+        }
+
+        private void drain() throws IOException {
+            io.flip();
+            while (io.hasRemaining()) ch.write(io);
+            io.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            drain();
+            ch.close();
+        }
+    }
+
+    static ExternalSortStats externalSort(Path input, Path output, int width,
+                                          long memoryBudget, Path tempDir) throws IOException {
+        if (width != 4 && width != 8) throw new IllegalArgumentException("width must be 4 or 8");
+        ExternalSortStats stats = new ExternalSortStats();
+        int fanIn = (int) Math.max(2, Math.min(MAX_FAN_IN, memoryBudget / MIN_RUN_BUFFER - 1));
+        int bufferBytes = (int) Math.min(1 << 24, Math.max(MIN_RUN_BUFFER, memoryBudget / (fanIn + 1)));
+        int chunk = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, memoryBudget / 16));
+
+        long values = Files.size(input) / width;
+        if (values == 0) {
+            Files.write(output, new byte[0]); // nothing to sort or merge
+            return stats;
+        }
+
+        List<Path> temps = new ArrayList<>(); // every temp file ever created
+        List<Path> runs = new ArrayList<>();
+        try {
+            // 1. Run phase: each chunk is sorted in place in buf[0..n)
+            try (ValueReader in = new ValueReader(input, width, bufferBytes)) {
+                long[] buf = new long[(int) Math.min(chunk, values)];
+                while (in.hasNext()) {
+                    int n = 0;
+                    while (n < buf.length && in.hasNext()) buf[n++] = in.nextLong();
+                    radixSort(buf, 0, n);
+
+                    Path run = Files.createTempFile(tempDir, "run", ".bin");
+                    temps.add(run);
+                    runs.add(run);
+                    try (ValueWriter out = new ValueWriter(run, width, bufferBytes)) {
+                        for (int i = 0; i < n; i++) out.write(buf[i]);
+                        stats.bytesSpilled += out.bytesWritten;
+                    }
+                }
+            }
+            stats.runs = runs.size();
+
+            // 2. Merge phase: intermediate passes only while runs > fanIn
+            while (runs.size() > fanIn) {
+                stats.mergePasses++;
+                List<Path> next = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                    Path merged = Files.createTempFile(tempDir, "run", ".bin");
+                    temps.add(merged);
+                    next.add(merged);
+                    stats.bytesSpilled += mergeRuns(group, merged, width, bufferBytes, stats);
+                }
+                for (Path p : runs) Files.deleteIfExists(p);
+                runs = next;
+            }
+            if (runs.size() == 1) {
+                // one run is already sorted: no merge needed
+                Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                stats.mergePasses++;
+                mergeRuns(runs, output, width, bufferBytes, stats);
+            }
+        } finally {
+            for (Path p : temps) Files.deleteIfExists(p);
+        }
+        return stats;
+    }
+
+    static long mergeRuns(List<Path> runs, Path target, int width, int bufferBytes,
+                          ExternalSortStats stats) throws IOException {
+        ValueReader[] readers = new ValueReader[runs.size()];
+        try (ValueWriter out = new ValueWriter(target, width, bufferBytes)) {
+            for (int i = 0; i < readers.length; i++) {
+                readers[i] = new ValueReader(runs.get(i), width, bufferBytes);
+            }
+            stats.maxFanIn = Math.max(stats.maxFanIn, readers.length);
+
+            LoserTree tree = new LoserTree(readers);
+            while (tree.hasNext()) {
+                out.write(tree.nextLong());
+            }
+            return out.bytesWritten;
+        } finally {
+            for (ValueReader r : readers) {
+                if (r != null) r.close();
+            }
+        }
+    }
+
+    static void externalSortExample(String in, String out) throws IOException {
+        Path tmp = Files.createTempDirectory("extsort");
+        ExternalSortStats stats = externalSort(
+            Paths.get(in), Paths.get(out), 8, 256L << 20, tmp); // 256 MB budget
+        Files.delete(tmp);
+        System.out.println(stats);
+    }
+    */
+
+    /*
+    Notes:
+    - Budget B, file size N: runs ~ N / (B / 2) for longs; one merge pass
+      is enough while runs <= fanIn (256 MB budget: 512 runs = ~64 GB)
+    - 50 GB with a 64 MB budget: ~1600 runs -> one extra merge pass
+    - Put tempDir on a different disk than input/output if you can
+    - Temp runs are deleted even if sorting fails halfway
+    - Sorting on the fly from text? Convert to binary first (17.16)
+    */
+
+    /*
+    ----------------------------------------------------
+    15.13 Quickselect / nth_element / Partial Sort
+    ----------------------------------------------------
+
+    15.8 offers two options for "kth smallest" / "median":
+    - Full sort:          O(n log n)  (but we only need ONE position)
+    - PriorityQueue top-K: O(n log k)
+
+    Selection does it in O(n):
+    - Quickselect: partition like quicksort, recurse into ONE side only
+    - Average O(n), but bad pivots (adversarial input) -> O(n^2)
+
+    Introselect (the idea behind C++ nth_element):
+    - Quickselect with median-of-3 pivots
+    - Work budget ~ 8n partitioned elements (random input uses ~2.5n);
+      once spent, switch pivot rule to MEDIAN OF MEDIANS (groups of 5)
+      -> guaranteed 30/70 split -> O(n) worst case
+      (a budget on ROUNDS, e.g. 2 log2(n), would still allow O(n log n))
+    - 3-way partition (<, ==, >): many duplicates cost nothing extra
+
+    After nthElement(a, k):
+        a[k] is what a sorted array would hold at k,
+        a[0..k) <= a[k] <= a(k..n)   (both sides unordered)
+
+    partialSort(a, k) = nthElement + sort the first k -> O(n + k log k)
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static final int SELECT_WORK_FACTOR = 8;
+
+    static void nthElement(int[] a, int k) {
+        if (k < 0 || k >= a.length) throw new IllegalArgumentException("k out of range: " + k);
+        select(a, 0, a.length, k);
+    }
+
+    // Smallest k elements, sorted, in a[0..k).
+    static void partialSort(int[] a, int k) {
+        if (k < 0 || k > a.length) throw new IllegalArgumentException("k out of range: " + k);
+        if (k == 0) return;
+        select(a, 0, a.length, k - 1);
+        Arrays.sort(a, 0, k);
+    }
+
+    // Does not modify a. Even length -> mean of the two middle values.
+    static double median(int[] a) {
+        if (a.length == 0) throw new IllegalArgumentException("empty array");
+        int[] c = a.clone();
+        int n = c.length;
+        select(c, 0, n, (n - 1) / 2);
+        if (n % 2 == 1) return c[(n - 1) / 2];
+
+        int upper = c[n / 2];
+        for (int i = n / 2 + 1; i < n; i++) upper = Math.min(upper, c[i]);
+        return ((double) c[(n - 1) / 2] + upper) / 2;
+    }
+
+    // Places the k-th smallest of a[lo..hi) at index k.
+    static void select(int[] a, int lo, int hi, int k) {
+        long budget = (long) SELECT_WORK_FACTOR * (hi - lo); // elements to partition
+        while (hi - lo > 16) {
+            int p = budget > 0 ? medianOf3(a, lo, (lo + hi) >>> 1, hi - 1)
+                               : medianOfMedians(a, lo, hi);
+            budget -= hi - lo;
+            int pivot = a[p];
+
+            // 3-way partition: [lo, lt) < pivot, [lt, i) == pivot, [gt, hi) > pivot
+            int lt = lo, i = lo, gt = hi;
+            while (i < gt) {
+                if (a[i] < pivot) swap(a, lt++, i++);
+                else if (a[i] > pivot) swap(a, i, --gt);
+                else i++;
+            }
+
+            if (k < lt) hi = lt;
+            else if (k >= gt) lo = gt;
+            else return; // k falls among the pivot copies
+        }
+        insertionSort(a, lo, hi);
+    }
+
+    static int medianOf3(int[] a, int i, int j, int k) {
+        if (a[i] < a[j]) {
+            if (a[j] < a[k]) return j;
+            return a[i] < a[k] ? k : i;
+        }
+        if (a[i] < a[k]) return i;
+        return a[j] < a[k] ? k : j;
+    }
+
+    // Index of a pivot guaranteed to have >= ~30% of a[lo..hi) on each side.
+    static int medianOfMedians(int[] a, int lo, int hi) {
+        int m = lo;
+        for (int g = lo; g < hi; g += 5) {
+            int end = Math.min(g + 5, hi);
+            insertionSort(a, g, end);
+            swap(a, m++, g + (end - g - 1) / 2); // group median to the front
+        }
+        int mid = lo + (m - lo - 1) / 2;
+        select(a, lo, m, mid); // median of the medians
+        return mid;
+    }
+
+    static void insertionSort(int[] a, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int x = a[i];
+            int j = i - 1;
+            while (j >= lo && a[j] > x) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    // long[]: identical algorithm with long values.
+    static void nthElement(long[] a, int k) {
+        if (k < 0 || k >= a.length) throw new IllegalArgumentException("k out of range: " + k);
+        select(a, 0, a.length, k);
+    }
+
+    static void partialSort(long[] a, int k) {
+        if (k < 0 || k > a.length) throw new IllegalArgumentException("k out of range: " + k);
+        if (k == 0) return;
+        select(a, 0, a.length, k - 1);
+        Arrays.sort(a, 0, k);
+    }
+
+    static double median(long[] a) {
+        if (a.length == 0) throw new IllegalArgumentException("empty array");
+        long[] c = a.clone();
+        int n = c.length;
+        select(c, 0, n, (n - 1) / 2);
+        if (n % 2 == 1) return c[(n - 1) / 2];
+
+        long upper = c[n / 2];
+        for (int i = n / 2 + 1; i < n; i++) upper = Math.min(upper, c[i]);
+        return c[(n - 1) / 2] / 2.0 + upper / 2.0; // no long overflow
+    }
+
+    static void select(long[] a, int lo, int hi, int k) {
+        long budget = (long) SELECT_WORK_FACTOR * (hi - lo);
+        while (hi - lo > 16) {
+            int p = budget > 0 ? medianOf3(a, lo, (lo + hi) >>> 1, hi - 1)
+                               : medianOfMedians(a, lo, hi);
+            budget -= hi - lo;
+            long pivot = a[p];
+
+            int lt = lo, i = lo, gt = hi;
+            while (i < gt) {
+                if (a[i] < pivot) swap(a, lt++, i++);
+                else if (a[i] > pivot) swap(a, i, --gt);
+                else i++;
+            }
+
+            if (k < lt) hi = lt;
+            else if (k >= gt) lo = gt;
+            else return;
+        }
+        insertionSort(a, lo, hi);
+    }
+
+    static int medianOf3(long[] a, int i, int j, int k) {
+        if (a[i] < a[j]) {
+            if (a[j] < a[k]) return j;
+            return a[i] < a[k] ? k : i;
+        }
+        if (a[i] < a[k]) return i;
+        return a[j] < a[k] ? k : j;
+    }
+
+    static int medianOfMedians(long[] a, int lo, int hi) {
+        int m = lo;
+        for (int g = lo; g < hi; g += 5) {
+            int end = Math.min(g + 5, hi);
+            insertionSort(a, g, end);
+            swap(a, m++, g + (end - g - 1) / 2);
+        }
+        int mid = lo + (m - lo - 1) / 2;
+        select(a, lo, m, mid);
+        return mid;
+    }
+
+    static void insertionSort(long[] a, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            long x = a[i];
+            int j = i - 1;
+            while (j >= lo && a[j] > x) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    static void swap(long[] a, int i, int j) {
+        long t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    // double[]: select on order-preserving long keys (same bit map as 15.9).
+    static long doubleKey(double x) {
+        long bits = Double.doubleToLongBits(x);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    static double keyDouble(long k) {
+        return Double.longBitsToDouble(k ^ ((k >> 63) & Long.MAX_VALUE));
+    }
+
+    static void nthElement(double[] a, int k) {
+        long[] keys = new long[a.length];
+        for (int i = 0; i < a.length; i++) keys[i] = doubleKey(a[i]);
+        nthElement(keys, k);
+        for (int i = 0; i < a.length; i++) a[i] = keyDouble(keys[i]);
+    }
+
+    static void partialSort(double[] a, int k) {
+        long[] keys = new long[a.length];
+        for (int i = 0; i < a.length; i++) keys[i] = doubleKey(a[i]);
+        partialSort(keys, k);
+        for (int i = 0; i < a.length; i++) a[i] = keyDouble(keys[i]);
+    }
+
+    static double median(double[] a) {
+        if (a.length == 0) throw new IllegalArgumentException("empty array");
+        long[] keys = new long[a.length];
+        for (int i = 0; i < a.length; i++) keys[i] = doubleKey(a[i]);
+        int n = keys.length;
+        select(keys, 0, n, (n - 1) / 2);
+        double lower = keyDouble(keys[(n - 1) / 2]);
+        if (n % 2 == 1) return lower;
+
+        long upper = keys[n / 2];
+        for (int i = n / 2 + 1; i < n; i++) upper = Math.min(upper, keys[i]);
+        return lower / 2 + keyDouble(upper) / 2;
+    }
+
+    static void selectionExample() {
+        int[] arr = {9, 4, 7, 1, 8, 2, 6, 3, 5};
+
+        nthElement(arr, 4);
+        System.out.println(arr[4]); // 5 (the median)
+
+        partialSort(arr, 3);
+        System.out.println(arr[0] + " " + arr[1] + " " + arr[2]); // 1 2 3
+
+        System.out.println(median(new int[] {4, 1, 3, 2})); // 2.5
+        System.out.println(median(new double[] {0.5, -1.5, 2.0})); // 0.5
+    }
+    */
+
+    /*
+    Notes:
+    - nthElement / partialSort REORDER the array; median() works on a copy
+    - Median of medians is slower on average, so it is only the fallback
+    - double order matches Arrays.sort (-0.0 < 0.0, NaN largest)
+    - Need the k smallest, unordered? nthElement(a, k - 1) is enough
+    */
+
+    /*
+    ----------------------------------------------------
+    15.14 DSA RULES FOR SORTING
     ----------------------------------------------------
 
     - Use Arrays.sort for primitives
     - Use Comparator for custom order
     - Avoid subtraction in comparators
     - Choose sorting vs heap wisely
+    - 10^7+ primitives: consider radix sort (15.9)
+    - Sorting pairs at scale: pack into long keys (15.10), not int[][]
+    - Sorting indices by key: primitive argsort (15.11), not Integer[]
+    - Data bigger than the heap: external merge sort (15.12)
+    - Kth element / median only: selection in O(n) (15.13), no full sort
     */
 
     public static void main(String[] args) {
@@ -9,13 +9,35 @@ Scope:
 - BufferedReader + StringTokenizer
 - Fast output with StringBuilder
 - Custom fast input pattern
+- Byte-level zero-allocation scanner
+- Memory-mapped file input
+- Parallel chunked parsing
+- Double-buffered async reader
+- Allocation-free FastWriter
+- Benchmarking input strategies with JMH
+- SIMD whitespace scanning (Vector API)
+- Transparent GZIP input
+- Binary columnar format for repeated runs
 - DSA-ready templates
 
 If you ignore this section, Java will TLE on large inputs.
 */
 
 import java.io.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
 import java.util.StringTokenizer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
 public class FastIO {
 
@@ -178,13 +200,1371 @@ public class FastIO {
 
     /*
     ----------------------------------------------------
-    17.8 DSA RULES FOR FAST IO
+    17.8 Byte-Level FastScanner (ZERO ALLOCATION)
+    ----------------------------------------------------
+
+    The 17.7 template still allocates for EVERY input:
+    - One String per line (readLine)
+    - One StringTokenizer per line
+    - One String per token before parseInt
+
+    10^7 tokens -> tens of millions of short-lived objects -> GC time.
+
+    Fix:
+    - Read raw bytes from InputStream into ONE reusable byte[]
+    - Parse numbers straight from the bytes
+    - nextInt() / nextLong() / nextDouble() / nextChar() allocate nothing
+
+    Assumes ASCII input (true for every judge).
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class ByteScanner {
+        private final InputStream in;
+        private final byte[] buf = new byte[1 << 16];
+        private int len = 0;
+        private int ptr = 0;
+
+        ByteScanner(InputStream in) {
+            this.in = in;
+        }
+
+        private int read() throws IOException {
+            if (ptr == len) {
+                len = in.read(buf, 0, buf.length);
+                ptr = 0;
+                if (len <= 0) {
+                    len = 0;
+                    return -1;
+                }
+            }
+            return buf[ptr++] & 0xFF;
+        }
+
+        private int skipSpaces() throws IOException {
+            int c = read();
+            while (c != -1 && c <= ' ') {
+                c = read();
+            }
+            if (c == -1) {
+                throw new EOFException();
+            }
+            return c;
+        }
+
+        int nextInt() throws IOException {
+            int c = skipSpaces();
+            boolean neg = c == '-';
+            if (neg) c = read();
+
+            int res = 0;
+            while (c >= '0' && c <= '9') {
+                res = res * 10 + (c - '0');
+                c = read();
+            }
+            return neg ? -res : res;
+        }
+
+        long nextLong() throws IOException {
+            int c = skipSpaces();
+            boolean neg = c == '-';
+            if (neg) c = read();
+
+            long res = 0;
+            while (c >= '0' && c <= '9') {
+                res = res * 10 + (c - '0');
+                c = read();
+            }
+            return neg ? -res : res;
+        }
+
+        double nextDouble() throws IOException {
+            int c = skipSpaces();
+            boolean neg = c == '-';
+            if (neg) c = read();
+
+            double res = 0;
+            while (c >= '0' && c <= '9') {
+                res = res * 10 + (c - '0');
+                c = read();
+            }
+            if (c == '.') {
+                c = read();
+                double scale = 1;
+                while (c >= '0' && c <= '9') {
+                    scale /= 10;
+                    res += (c - '0') * scale;
+                    c = read();
+                }
+            }
+            return neg ? -res : res;
+        }
+
+        char nextChar() throws IOException {
+            return (char) skipSpaces();
+        }
+
+        String next() throws IOException {
+            StringBuilder sb = new StringBuilder();
+            int c = skipSpaces();
+            while (c > ' ') {
+                sb.append((char) c);
+                c = read();
+            }
+            return sb.toString();
+        }
+    }
+
+    static void byteScannerExample() throws IOException {
+        ByteScanner fs = new ByteScanner(System.in);
+        int n = fs.nextInt();
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += fs.nextInt();
+        }
+        System.out.println(sum);
+    }
+    */
+
+    /*
+    Notes:
+    - Overflow behaves like int/long arithmetic (no NumberFormatException)
+    - nextDouble() handles "123.45", not exponents ("1e9")
+      -> use Double.parseDouble(next()) if input may contain them
+    - next() still allocates one String: use it only for real string tokens
+    */
+
+    /*
+    ----------------------------------------------------
+    17.9 Memory-Mapped Input (FILE-BACKED INPUT)
+    ----------------------------------------------------
+
+    When input is a FILE (not a pipe), we can skip the stream entirely:
+    - FileChannel.map() exposes the file as a MappedByteBuffer
+    - The OS pages data in directly, no copy into our byte[]
+    - No InputStreamReader, no char decoding (unlike 17.2 / 17.3)
+
+    Limits:
+    - One mapping is at most 2 GB (int-indexed)
+      -> map fixed WINDOWS and move to the next one when exhausted
+    - Only works for regular files, NOT System.in from a pipe
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class MappedScanner implements Closeable {
+        private static final long WINDOW = 1L << 28; // 256 MB per mapping
+
+        private final FileChannel channel;
+        private final long size;
+        private long windowStart = 0;
+        private MappedByteBuffer buf;
+
+        MappedScanner(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            size = channel.size();
+            map(0);
+        }
+
+        private void map(long offset) throws IOException {
+            windowStart = offset;
+            long len = Math.min(WINDOW, size - offset);
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, offset, len);
+        }
+
+        private int read() throws IOException {
+            if (!buf.hasRemaining()) {
+                long next = windowStart + buf.capacity();
+                if (next >= size) {
+                    return -1;
+                }
+                map(next); // a token may span two windows: still fine
+            }
+            return buf.get() & 0xFF;
+        }
+
+        private int skipSpaces() throws IOException {
+            int c = read();
+            while (c != -1 && c <= ' ') {
+                c = read();
+            }
+            if (c == -1) {
+                throw new EOFException();
+            }
+            return c;
+        }
+
+        int nextInt() throws IOException {
+            int c = skipSpaces();
+            boolean neg = c == '-';
+            if (neg) c = read();
+
+            int res = 0;
+            while (c >= '0' && c <= '9') {
+                res = res * 10 + (c - '0');
+                c = read();
+            }
+            return neg ? -res : res;
+        }
+
+        long nextLong() throws IOException {
+            int c = skipSpaces();
+            boolean neg = c == '-';
+            if (neg) c = read();
+
+            long res = 0;
+            while (c >= '0' && c <= '9') {
+                res = res * 10 + (c - '0');
+                c = read();
+            }
+            return neg ? -res : res;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    static void mappedInputExample(String file) throws IOException {
+        try (MappedScanner fs = new MappedScanner(Paths.get(file))) {
+            int n = fs.nextInt();
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += fs.nextLong();
+            }
+            System.out.println(sum);
+        }
+    }
+    */
+
+    /*
+    Notes:
+    - nextDouble() / nextChar() are identical to 17.8, only read() changes
+    - Old windows are unmapped by GC, not by close()
+    - Mapping wins on multi-GB files; for small inputs 17.8 is just as fast
+    */
+
+    /*
+    ----------------------------------------------------
+    17.10 Parallel Chunked Parsing (HUGE NUMERIC INPUT)
+    ----------------------------------------------------
+
+    17.8 / 17.9 parse on ONE thread.
+    Loading a 400 MB array of numbers leaves every other core idle.
+
+    Idea (input already fully in memory, e.g. readAllBytes()):
+    1. Split the bytes into chunks, moving each cut forward to whitespace
+       -> no token is ever split between two chunks
+    2. Count tokens per chunk (parallel)
+    3. Prefix sum of counts -> output offset of every chunk
+    4. Parse every chunk straight into ONE int[] (parallel, no locking:
+       chunks write disjoint index ranges)
+
+    Parallel streams run on the common ForkJoinPool.
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    // ByteBuffer covers both a byte[] (ByteBuffer.wrap) and a mapped file (17.9).
+    // Only absolute get(i) is used: safe to share between threads.
+    static int[] chunkBounds(ByteBuffer data, int from, int chunks) {
+        int len = data.limit();
+        int[] bounds = new int[chunks + 1];
+        for (int i = 0; i <= chunks; i++) {
+            int p = (int) (from + (long) (len - from) * i / chunks);
+            while (p > from && p < len && data.get(p) > ' ') {
+                p++; // inside a token -> move cut to the next whitespace
+            }
+            bounds[i] = p;
+        }
+        return bounds;
+    }
+
+    static int countTokens(ByteBuffer data, int lo, int hi) {
+        int count = 0;
+        boolean inToken = false;
+        for (int i = lo; i < hi; i++) {
+            boolean space = data.get(i) <= ' ';
+            if (!space && !inToken) count++;
+            inToken = !space;
+        }
+        return count;
+    }
+
+    static int[] tokenOffsets(ByteBuffer data, int[] bounds, int n) {
+        int chunks = bounds.length - 1;
+        int[] counts = new int[chunks];
+        IntStream.range(0, chunks).parallel()
+            .forEach(c -> counts[c] = countTokens(data, bounds[c], bounds[c + 1]));
+
+        int[] offsets = new int[chunks + 1];
+        for (int c = 0; c < chunks; c++) {
+            offsets[c + 1] = offsets[c] + counts[c];
+        }
+        if (offsets[chunks] < n) {
+            throw new IllegalArgumentException(
+                "expected " + n + " tokens, found " + offsets[chunks]);
+        }
+        return offsets;
+    }
+
+    static void parseIntChunk(ByteBuffer data, int lo, int hi, int[] out, int idx) {
+        int i = lo;
+        while (idx < out.length) {
+            while (i < hi && data.get(i) <= ' ') i++;
+            if (i >= hi) return;
+
+            boolean neg = data.get(i) == '-';
+            if (neg) i++;
+            int res = 0;
+            byte b;
+            while (i < hi && (b = data.get(i)) >= '0' && b <= '9') {
+                res = res * 10 + (b - '0');
+                i++;
+            }
+            out[idx++] = neg ? -res : res;
+        }
+    }
+
+    static void parseLongChunk(ByteBuffer data, int lo, int hi, long[] out, int idx) {
+        int i = lo;
+        while (idx < out.length) {
+            while (i < hi && data.get(i) <= ' ') i++;
+            if (i >= hi) return;
+
+            boolean neg = data.get(i) == '-';
+            if (neg) i++;
+            long res = 0;
+            byte b;
+            while (i < hi && (b = data.get(i)) >= '0' && b <= '9') {
+                res = res * 10 + (b - '0');
+                i++;
+            }
+            out[idx++] = neg ? -res : res;
+        }
+    }
+
+    static int[] readIntArray(byte[] data, int from, int n) {
+        return readIntArray(ByteBuffer.wrap(data), from, n);
+    }
+
+    static int[] readIntArray(ByteBuffer data, int from, int n) {
+        int chunks = Runtime.getRuntime().availableProcessors() * 4;
+        int[] bounds = chunkBounds(data, from, chunks);
+        int[] offsets = tokenOffsets(data, bounds, n);
+
+        int[] out = new int[n];
+        IntStream.range(0, chunks).parallel()
+            .forEach(c -> parseIntChunk(data, bounds[c], bounds[c + 1], out, offsets[c]));
+        return out;
+    }
+
+    static long[] readLongArray(byte[] data, int from, int n) {
+        return readLongArray(ByteBuffer.wrap(data), from, n);
+    }
+
+    static long[] readLongArray(ByteBuffer data, int from, int n) {
+        int chunks = Runtime.getRuntime().availableProcessors() * 4;
+        int[] bounds = chunkBounds(data, from, chunks);
+        int[] offsets = tokenOffsets(data, bounds, n);
+
+        long[] out = new long[n];
+        IntStream.range(0, chunks).parallel()
+            .forEach(c -> parseLongChunk(data, bounds[c], bounds[c + 1], out, offsets[c]));
+        return out;
+    }
+
+    static void parallelParseExample() throws IOException {
+        byte[] data = System.in.readAllBytes();
+
+        // header "n" parsed sequentially, the rest in parallel
+        int p = 0;
+        int n = 0;
+        while (data[p] <= ' ') p++;
+        while (p < data.length && data[p] > ' ') {
+            n = n * 10 + (data[p++] - '0');
+        }
+
+        int[] arr = readIntArray(data, p, n);
+        System.out.println(arr.length);
+    }
+
+    // File input: map it once (<= 2 GB) instead of copying it into a byte[]
+    static long[] parallelParseFile(Path file, int n) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer data = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            return readLongArray(data, 0, n);
+        }
+    }
+    */
+
+    /*
+    Notes:
+    - Input is int-indexed: at most 2 GB per call, whether a byte[] or ONE
+      mapping. Bigger inputs need their own whitespace-aligned splits.
+    - 4 chunks per core keeps cores busy when chunks parse at different speeds
+    - Below ~10^6 tokens the thread hand-off costs more than it saves
+    */
+
+    /*
+    ----------------------------------------------------
+    17.11 Double-Buffered Async Reader (OVERLAP I/O + PARSING)
+    ----------------------------------------------------
+
+    BufferedReader (17.2) and the 17.8 scanner refill ON the solver thread:
+    - Every refill blocks parsing until the OS returns data
+    - Slow pipe / decompressing upstream -> solver sits idle
+
+    Double buffering:
+    - TWO byte buffers, A and B
+    - Background thread fills B while the solver parses A
+    - When A is used up, the buffers swap
+
+    Hand-off uses two tiny blocking queues (empty / full).
+    The two buffers are reused forever -> no allocation per refill.
+
+    The reader thread lives until EOF or close(): a scanner that is not
+    read to the end MUST be closed, or its thread stays parked forever.
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class AsyncScanner implements Closeable {
+        private static final class Chunk {
+            final byte[] data = new byte[1 << 16];
+            int len;
+        }
+
+        private final BlockingQueue<Chunk> empty = new ArrayBlockingQueue<>(2);
+        private final BlockingQueue<Chunk> full = new ArrayBlockingQueue<>(2);
+        private final Thread reader;
+        private volatile IOException error;
+        private volatile boolean closed;
+        private Chunk cur;
+        private int ptr;
+        private boolean eof;
+
+        AsyncScanner(InputStream in) {
+            empty.add(new Chunk());
+            empty.add(new Chunk());
+
+            reader = new Thread(() -> fill(in), "fast-io-reader");
+            reader.setDaemon(true); // never keeps the JVM alive
+            reader.start();
+        }
+
+        // Background thread: take an empty buffer, fill it, publish it.
+        private void fill(InputStream in) {
+            Chunk c = null;
+            try {
+                while (!closed) {
+                    c = empty.take();
+                    c.len = in.read(c.data, 0, c.data.length);
+                    full.put(c);
+                    if (c.len < 0) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                error = e;
+                c.len = -1;
+                full.offer(c);
+            } catch (InterruptedException e) {
+                // close(): stop without touching the stream again
+            }
+        }
+
+        private int read() throws IOException {
+            if (eof) {
+                return -1;
+            }
+            if (cur == null || ptr == cur.len) {
+                if (closed) {
+                    throw new IOException("scanner is closed");
+                }
+                if (cur != null) {
+                    empty.add(cur); // give the used buffer back
+                }
+                try {
+                    cur = full.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+                ptr = 0;
+                if (cur.len < 0) {
+                    eof = true;
+                    if (error != null) {
+                        throw error;
+                    }
+                    return -1;
+                }
+            }
+            return cur.data[ptr++] & 0xFF;
+        }
+
+        private int skipSpaces() throws IOException {
+            int c = read();
+            while (c != -1 && c <= ' ') {
+                c = read();
+            }
+            if (c == -1) {
+                throw new EOFException();
+            }
+            return c;
+        }
+
+        int nextInt() throws IOException {
+            int c = skipSpaces();
+            boolean neg = c == '-';
+            if (neg) c = read();
+
+            int res = 0;
+            while (c >= '0' && c <= '9') {
+                res = res * 10 + (c - '0');
+                c = read();
+            }
+            return neg ? -res : res;
+        }
+
+        long nextLong() throws IOException {
+            int c = skipSpaces();
+            boolean neg = c == '-';
+            if (neg) c = read();
+
+            long res = 0;
+            while (c >= '0' && c <= '9') {
+                res = res * 10 + (c - '0');
+                c = read();
+            }
+            return neg ? -res : res;
+        }
+
+        // Stops the reader thread and waits for it, so the caller may close
+        // the stream right after. A read() already blocked in the OS finishes first.
+        @Override
+        public void close() {
+            closed = true;
+            reader.interrupt();
+            try {
+                reader.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static void asyncScannerExample() throws IOException {
+        try (AsyncScanner fs = new AsyncScanner(System.in)) {
+            int n = fs.nextInt();
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += fs.nextLong();
+            }
+            System.out.println(sum);
+        }
+    }
+    */
+
+    /*
+    Notes:
+    - Java 21+: Thread.ofVirtual().start(() -> fill(in)) works the same way
+    - Reader exceptions are rethrown on the solver thread at end of data
+    - Always close() it (try-with-resources): replaying many inputs with
+      partly-read scanners would otherwise pile up parked reader threads
+    - close() does not close the stream: the caller owns it, close it after
+    - Only pays off when reading is slow; from a local file use 17.8 / 17.9
+    */
+
+    /*
+    ----------------------------------------------------
+    17.12 FastWriter (ALLOCATION-FREE OUTPUT)
+    ----------------------------------------------------
+
+    17.5 / 17.6 still pay for huge outputs:
+    - sb.append(int) formats into chars, toString() copies EVERYTHING again
+    - 500 MB of output -> StringBuilder + String copy -> OutOfMemoryError
+    - BufferedWriter encodes chars to bytes on every flush
+
+    FastWriter:
+    - Formats int / long / char / double DIGITS straight into a byte[]
+    - Flushes to the OutputStream whenever the buffer fills
+    - Never builds one giant String -> memory stays at buffer size
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static class FastWriter implements Closeable {
+        private final OutputStream out;
+        private final byte[] buf = new byte[1 << 16];
+        private int pos = 0;
+
+        FastWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        private void ensure(int n) throws IOException {
+            if (pos + n > buf.length) {
+                out.write(buf, 0, pos);
+                pos = 0;
+            }
+        }
+
+        FastWriter print(char c) throws IOException {
+            ensure(1);
+            buf[pos++] = (byte) c;
+            return this;
+        }
+
+        FastWriter print(int x) throws IOException {
+            return print((long) x);
+        }
+
+        FastWriter print(long x) throws IOException {
+            if (x == Long.MIN_VALUE) {
+                return print("-9223372036854775808"); // -x would overflow
+            }
+            ensure(20);
+            if (x < 0) {
+                buf[pos++] = '-';
+                x = -x;
+            }
+            int start = pos;
+            do {
+                buf[pos++] = (byte) ('0' + x % 10);
+                x /= 10;
+            } while (x > 0);
+
+            // digits were written least-significant first
+            for (int i = start, j = pos - 1; i < j; i++, j--) {
+                byte t = buf[i];
+                buf[i] = buf[j];
+                buf[j] = t;
+            }
+            return this;
+        }
+
+        // Fixed number of decimals, e.g. print(3.14159, 3) -> "3.142"
+        FastWriter print(double x, int decimals) throws IOException {
+            if (decimals < 0) {
+                throw new IllegalArgumentException("negative decimals: " + decimals);
+            }
+            if (Double.isNaN(x) || Double.isInfinite(x)) {
+                return print(String.valueOf(x));
+            }
+            if (Math.abs(x) >= 1e18 || decimals > 18) {
+                // beyond long digits: same fixed format, rare so allocation is fine
+                return print(new BigDecimal(x).setScale(decimals, RoundingMode.HALF_UP)
+                    .toPlainString());
+            }
+            if (x < 0) {
+                print('-');
+                x = -x;
+            }
+            long pow = 1;
+            for (int i = 0; i < decimals; i++) pow *= 10;
+
+            long whole = (long) x;
+            long frac = Math.round((x - whole) * pow);
+            if (frac >= pow) { // 0.9996 with 3 decimals rounds up to 1.000
+                whole++;
+                frac -= pow;
+            }
+            print(whole);
+            if (decimals > 0) {
+                print('.');
+                for (long p = pow / 10; p > 0; p /= 10) {
+                    print((char) ('0' + frac / p % 10));
+                }
+            }
+            return this;
+        }
+
+        FastWriter print(String s) throws IOException {
+            for (int i = 0; i < s.length(); i++) {
+                print(s.charAt(i));
+            }
+            return this;
+        }
+
+        FastWriter println() throws IOException {
+            return print('\n');
+        }
+
+        void flush() throws IOException {
+            out.write(buf, 0, pos);
+            pos = 0;
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+            out.close();
+        }
+    }
+
+    static void fastWriterExample() throws IOException {
+        FastWriter fw = new FastWriter(System.out);
+        for (int i = 0; i < 5; i++) {
+            fw.print(i).print(' ').print(i * 1_000_000_007L).println();
+        }
+        fw.print(2.0 / 3, 4).println(); // 0.6667
+        fw.flush(); // ALWAYS flush, or output is lost
+    }
+    */
+
+    /*
+    Notes:
+    - File output: new FastWriter(new FileOutputStream(path)),
+      or Channels.newOutputStream(fileChannel) for a FileChannel
+    - ASCII only (same assumption as 17.8)
+    - Forgetting flush() at the end = empty output = Wrong Answer
+    */
+
+    /*
+    ----------------------------------------------------
+    17.13 Measuring Input Strategies (JMH BENCHMARK)
+    ----------------------------------------------------
+
+    "Scanner is slow" (17.1) is only useful with numbers behind it.
+    Numbers depend on the workload, so MEASURE instead of guessing:
+    - Token type: small ints, 18-digit longs, mixed
+    - Line shape: one huge line vs many one-token lines
+    - Size: 10^5 .. 10^8 tokens
+
+    Tool: JMH (Java Microbenchmark Harness)
+    - Handles warmup, JIT, dead-code elimination, forks
+    - "-prof gc" reports allocation rate (bytes per operation)
+
+    Hand-written System.nanoTime() loops are NOT reliable for this.
+    */
+
+    /*
+    Setup (separate Maven project, not part of a contest solution):
+
+        mvn archetype:generate -DinteractiveMode=false \
+            -DarchetypeGroupId=org.openjdk.jmh \
+            -DarchetypeArtifactId=jmh-java-benchmark-archetype \
+            -DgroupId=bench -DartifactId=fastio-bench -Dversion=1.0
+
+    Copy InputBenchmark below into it, together with the
+    ByteScanner (17.8), MappedScanner (17.9), readLongArray (17.10)
+    and AsyncScanner (17.11) code. The 17.7 FastScanner is already
+    inside, as a variant that takes an InputStream.
+
+    Run:
+
+        mvn package
+        java -jar target/benchmarks.jar InputBenchmark -prof gc
+
+    Columns to compare:
+    - Score (ops/s)           -> whole inputs parsed per second
+    - gc.alloc.rate.norm      -> bytes allocated per input
+                                 (divide by tokens = bytes per token)
+    */
+
+    /*
+    // Imports needed in the benchmark project:
+    // import org.openjdk.jmh.annotations.*;
+    // import java.io.*;
+    // import java.nio.file.*;
+    // import java.util.*;
+    // import java.util.concurrent.TimeUnit;
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @State(Scope.Benchmark)
+    @Fork(value = 1, jvmArgs = {"-Xms8g", "-Xmx8g"})
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public static class InputBenchmark {
+
+        // 17.7 FastScanner, reading any InputStream instead of System.in
+        static class FastScanner {
+            BufferedReader br;
+            StringTokenizer st;
+
+            FastScanner(InputStream in) {
+                br = new BufferedReader(new InputStreamReader(in));
+            }
+
+            String next() throws IOException {
+                while (st == null || !st.hasMoreElements()) {
+                    st = new StringTokenizer(br.readLine());
+                }
+                return st.nextToken();
+            }
+
+            long nextLong() throws IOException {
+                return Long.parseLong(next());
+            }
+        }
+
+        @Param({"100000", "1000000", "10000000", "100000000"})
+        int tokens;
+
+        @Param({"INTS", "LONGS", "MIXED", "LONG_LINES", "SHORT_LINES"})
+        String shape;
+
+        byte[] data;
+        Path file;
+
+        @Setup(Level.Trial)
+        public void generate() throws IOException {
+            Random rnd = new Random(42);
+            int perLine = shape.equals("LONG_LINES") ? tokens
+                        : shape.equals("SHORT_LINES") ? 1
+                        : 10;
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            for (int i = 0; i < tokens; i++) {
+                long v;
+                switch (shape) {
+                    case "LONGS": v = rnd.nextLong(); break;
+                    case "MIXED": v = (i % 2 == 0) ? rnd.nextInt(1000) : rnd.nextLong(); break;
+                    default:      v = rnd.nextInt();
+                }
+                bos.write(Long.toString(v).getBytes());
+                bos.write((i + 1) % perLine == 0 ? '\n' : ' ');
+            }
+            data = bos.toByteArray();
+
+            file = Files.createTempFile("fastio", ".txt");
+            Files.write(file, data);
+        }
+
+        @TearDown(Level.Trial)
+        public void cleanup() throws IOException {
+            Files.deleteIfExists(file);
+        }
+
+        private BufferedReader reader() {
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(data)));
+        }
+
+        @Benchmark
+        public long scanner() {
+            Scanner sc = new Scanner(new ByteArrayInputStream(data));
+            long sum = 0;
+            for (int i = 0; i < tokens; i++) sum += sc.nextLong();
+            return sum;
+        }
+
+        @Benchmark
+        public long bufferedReaderTokenizer() throws IOException {
+            BufferedReader br = reader();
+            StringTokenizer st = null;
+            long sum = 0;
+            for (int i = 0; i < tokens; i++) {
+                while (st == null || !st.hasMoreTokens()) {
+                    st = new StringTokenizer(br.readLine());
+                }
+                sum += Long.parseLong(st.nextToken());
+            }
+            return sum;
+        }
+
+        @Benchmark
+        public long stringSplit() throws IOException {
+            BufferedReader br = reader();
+            long sum = 0;
+            String line;
+            while ((line = br.readLine()) != null) {
+                for (String t : line.trim().split("\\s+")) sum += Long.parseLong(t);
+            }
+            return sum;
+        }
+
+        @Benchmark
+        public long streamTokenizer() throws IOException {
+            // nval is a double: 18-digit longs lose precision (speed-only check)
+            StreamTokenizer st = new StreamTokenizer(reader());
+            long sum = 0;
+            while (st.nextToken() != StreamTokenizer.TT_EOF) sum += (long) st.nval;
+            return sum;
+        }
+
+        @Benchmark
+        public long fastScanner() throws IOException {
+            FastScanner fs = new FastScanner(new ByteArrayInputStream(data));
+            long sum = 0;
+            for (int i = 0; i < tokens; i++) sum += fs.nextLong();
+            return sum;
+        }
+
+        @Benchmark
+        public long byteScanner() throws IOException {
+            ByteScanner fs = new ByteScanner(new ByteArrayInputStream(data));
+            long sum = 0;
+            for (int i = 0; i < tokens; i++) sum += fs.nextLong();
+            return sum;
+        }
+
+        @Benchmark
+        public long mappedScanner() throws IOException {
+            try (MappedScanner fs = new MappedScanner(file)) {
+                long sum = 0;
+                for (int i = 0; i < tokens; i++) sum += fs.nextLong();
+                return sum;
+            }
+        }
+
+        @Benchmark
+        public long asyncScanner() throws IOException {
+            try (AsyncScanner fs = new AsyncScanner(new ByteArrayInputStream(data))) {
+                long sum = 0;
+                for (int i = 0; i < tokens; i++) sum += fs.nextLong();
+                return sum;
+            }
+        }
+
+        @Benchmark
+        public long parallelChunks() {
+            long sum = 0;
+            for (long v : readLongArray(data, 0, tokens)) sum += v;
+            return sum;
+        }
+    }
+    */
+
+    /*
+    Notes:
+    - The nested FastScanner takes an InputStream (17.7 hard-codes System.in)
+    - Returning the sum stops JIT from deleting the parsing work
+    - In-memory input isolates PARSING cost; the mapped variant also
+      includes page-cache reads, so compare it with care
+    - 10^8 tokens needs a big heap (-Xmx8g above); lower @Param if not
+    - Re-run on the machine that will actually execute the solution
+    */
+
+    /*
+    ----------------------------------------------------
+    17.14 Vectorized Delimiter Scanning (SIMD, OPTIONAL)
+    ----------------------------------------------------
+
+    Once parsing allocates nothing (17.8 - 17.10), the hot loop is:
+        "is this byte whitespace?"   -> one byte, one branch, repeat
+
+    jdk.incubator.vector (Java 16+) compares 32 (AVX2) or 64 (AVX-512)
+    bytes in ONE instruction:
+    - compare(LE, ' ') gives a lane mask, toLong() turns it into bits
+    - bit i set  -> byte i is whitespace
+    - Token starts / ends are the bits where "space-ness" CHANGES
+      -> jump between them with numberOfTrailingZeros, no per-byte branch
+
+    The module is incubating:
+    - Compile with   javac --add-modules jdk.incubator.vector ...
+    - Run with       java  --add-modules jdk.incubator.vector ...
+    - Run WITHOUT it -> automatic fallback to the scalar loop
+    */
+
+    /*
+    Runnable example (input fully in memory, e.g. readAllBytes()):
+    */
+
+    /*
+    // Extra imports: jdk.incubator.vector.ByteVector,
+    //                jdk.incubator.vector.VectorOperators,
+    //                jdk.incubator.vector.VectorSpecies
+
+    static final boolean VECTOR_AVAILABLE =
+        ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    // Reads up to out.length ints from data[from..], returns how many were read.
+    static int parseInts(byte[] data, int from, int[] out) {
+        return VECTOR_AVAILABLE
+            ? VectorDelimiters.parseInts(data, from, out)
+            : parseIntsScalar(data, from, out, 0);
+    }
+
+    static int parseToken(byte[] data, int lo, int hi) {
+        boolean neg = data[lo] == '-';
+        int res = 0;
+        for (int i = neg ? lo + 1 : lo; i < hi; i++) {
+            res = res * 10 + (data[i] - '0');
+        }
+        return neg ? -res : res;
+    }
+
+    static int parseIntsScalar(byte[] data, int i, int[] out, int n) {
+        while (n < out.length) {
+            while (i < data.length && data[i] <= ' ') i++;
+            if (i == data.length) break;
+
+            int start = i;
+            while (i < data.length && data[i] > ' ') i++;
+            out[n++] = parseToken(data, start, i);
+        }
+        return n;
+    }
+
+    // Only loaded when the module is present (class is resolved lazily).
+    static final class VectorDelimiters {
+        private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+        static int parseInts(byte[] data, int from, int[] out) {
+            int lanes = SPECIES.length();
+            int bound = from + SPECIES.loopBound(data.length - from);
+            int n = 0;
+            int tokenStart = -1;
+            long prevSpace = 1; // treat the byte before 'from' as whitespace
+
+            int i = from;
+            for (; i < bound; i += lanes) {
+                long spaces = ByteVector.fromArray(SPECIES, data, i)
+                    .compare(VectorOperators.LE, (byte) ' ')
+                    .toLong();
+
+                // bit set where byte i differs from byte i - 1 in "space-ness"
+                long changes = spaces ^ ((spaces << 1) | prevSpace);
+                if (lanes < 64) {
+                    changes &= (1L << lanes) - 1;
+                }
+                while (changes != 0) {
+                    int bit = Long.numberOfTrailingZeros(changes);
+                    if ((spaces >>> bit & 1) == 0) {
+                        tokenStart = i + bit;                      // token begins
+                    } else {
+                        if (n == out.length) {
+                            return n;
+                        }
+                        out[n++] = parseToken(data, tokenStart, i + bit); // token ends
+                    }
+                    changes &= changes - 1;
+                }
+                prevSpace = spaces >>> (lanes - 1) & 1;
+            }
+
+            // Tail (< one vector): finish scalar, restarting an unfinished token.
+            return parseIntsScalar(data, prevSpace == 0 ? tokenStart : i, out, n);
+        }
+    }
+
+    static void vectorParseExample() throws IOException {
+        byte[] data = System.in.readAllBytes();
+        int[] header = new int[1];
+        parseIntsScalar(data, 0, header, 0);
+
+        int n = header[0];
+        int[] arr = new int[2 * n];            // 17.4: n lines of "x y"
+        int skip = 0;
+        while (data[skip] <= ' ') skip++;
+        while (data[skip] > ' ') skip++;       // step over the header token
+        int read = parseInts(data, skip, arr);
+        System.out.println(read + " ints, vector=" + VECTOR_AVAILABLE);
+    }
+    */
+
+    /*
+    Notes:
+    - Same signed-byte ASCII assumption as 17.8
+    - Digit conversion stays scalar: the win is skipping whitespace and
+      locating token ends, which dominates for short tokens
+    - Incubator API may change between JDK releases: keep the scalar path
+    - Verify the speed-up with 17.13 on the target CPU before relying on it
+    */
+
+    /*
+    ----------------------------------------------------
+    17.15 Transparent GZIP Input
+    ----------------------------------------------------
+
+    Test inputs / replay logs are often stored as .gz.
+    Decompressing to disk first, then reading = every byte goes through I/O TWICE.
+
+    Better:
+    - Peek the first 2 bytes: 0x1f 0x8b is the GZIP magic header
+    - If present, wrap the stream in GZIPInputStream (inflate on the fly)
+    - Feed it to the AsyncScanner from 17.11:
+        its reader thread now INFLATES while the solver PARSES,
+        and the two reusable buffers form the bounded queue between them
+
+    Plain text input passes through unchanged -> one code path for both.
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static InputStream openMaybeGzip(InputStream raw) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(raw, 2);
+        int b1 = in.read();
+        int b2 = in.read();
+
+        // push back in reverse order so b1 is read first again
+        if (b2 != -1) in.unread(b2);
+        if (b1 != -1) in.unread(b1);
+
+        boolean gzip = b2 != -1 && (b1 | (b2 << 8)) == GZIPInputStream.GZIP_MAGIC;
+        return gzip ? new GZIPInputStream(in, 1 << 16) : in;
+    }
+
+    static void gzipInputExample(String file) throws IOException {
+        // closed in reverse order: reader thread stops before the streams close
+        try (InputStream raw = new FileInputStream(file);
+             InputStream in = openMaybeGzip(raw);
+             AsyncScanner fs = new AsyncScanner(in)) {
+            int n = fs.nextInt();
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += fs.nextLong();
+            }
+            System.out.println(sum);
+        }
+    }
+    */
+
+    /*
+    Notes:
+    - Works for System.in too: new AsyncScanner(openMaybeGzip(System.in))
+    - Single-threaded alternative: new ByteScanner(openMaybeGzip(in)) (17.8)
+    - Inflating is CPU work: overlap helps most when it costs about as
+      much as parsing; measure with 17.13
+    - Memory mapping (17.9) does not apply: compressed bytes must be inflated
+    */
+
+    /*
+    ----------------------------------------------------
+    17.16 Binary Columnar Input (PARSE ONCE, REPLAY MANY)
+    ----------------------------------------------------
+
+    Replaying the SAME large input hundreds of times?
+    Every run re-parses text -> pure wasted CPU.
+
+    Convert once to binary, then every run just maps the file:
+    - Values stored as raw little-endian int / long COLUMNS
+    - Reader memory-maps each column (like 17.9)
+    - IntBuffer / LongBuffer views read values in place
+      -> zero parsing, near-zero copying
+
+    File layout (little-endian):
+        int   MAGIC ("DSAB")
+        int   column count
+        per column: int type (4 = int, 8 = long), long value count
+        padding to 8 bytes
+        column data, in header order, each padded to 8 bytes
+    */
+
+    /*
+    Runnable example:
+    */
+
+    /*
+    static final int MAGIC = 0x42415344; // bytes "DSAB" on disk
+    static final int INT_COLUMN = 4;
+    static final int LONG_COLUMN = 8;
+    static final int CONVERT_BUFFER = 1 << 16;
+
+    static long align8(long x) {
+        return (x + 7) & ~7L;
+    }
+
+    static long headerBytes(int columns) {
+        return align8(8 + 12L * columns);
+    }
+
+    // Column c takes the next counts[c] tokens of the text input, in order.
+    static void convertToBinary(ByteScanner in, Path out, int[] types, long[] counts)
+            throws IOException {
+        // Checked before the file is touched: the reader would reject it anyway.
+        if (types.length != counts.length) {
+            throw new IllegalArgumentException(
+                types.length + " column types but " + counts.length + " counts");
+        }
+        if (headerBytes(types.length) > CONVERT_BUFFER) {
+            throw new IllegalArgumentException("too many columns: " + types.length);
+        }
+        for (int c = 0; c < types.length; c++) {
+            if (types[c] != INT_COLUMN && types[c] != LONG_COLUMN) {
+                throw new IllegalArgumentException("column " + c + " has unknown type " + types[c]);
+            }
+            if (counts[c] < 0 || counts[c] > Integer.MAX_VALUE / types[c]) {
+                throw new IllegalArgumentException("column " + c + " count out of range: " + counts[c]);
+            }
+        }
+
+        try (FileChannel ch = FileChannel.open(out, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.allocateDirect(CONVERT_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+
+            buf.putInt(MAGIC).putInt(types.length);
+            for (int c = 0; c < types.length; c++) {
+                buf.putInt(types[c]).putLong(counts[c]);
+            }
+            // header fits the first buffer (checked above: ~5000 columns)
+            while (buf.position() < headerBytes(types.length)) buf.put((byte) 0);
+
+            for (int c = 0; c < types.length; c++) {
+                long written = 0;
+                for (long i = 0; i < counts[c]; i++) {
+                    if (buf.remaining() < 8) {
+                        drain(ch, buf);
+                    }
+                    if (types[c] == INT_COLUMN) {
+                        buf.putInt(in.nextInt());
+                        written += 4;
+                    } else {
+                        buf.putLong(in.nextLong());
+                        written += 8;
+                    }
+                }
+                for (; written % 8 != 0; written++) {
+                    if (!buf.hasRemaining()) drain(ch, buf);
+                    buf.put((byte) 0);
+                }
+            }
+            drain(ch, buf);
+        }
+    }
+
+    static void drain(FileChannel ch, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            ch.write(buf);
+        }
+        buf.clear();
+    }
+
+    static class BinaryColumns implements Closeable {
+        private final FileChannel channel;
+        private final int[] types;
+        private final long[] counts;
+        private final ByteBuffer[] data;
+
+        BinaryColumns(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                ByteBuffer head = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+                channel.read(head, 0);
+                head.flip();
+                if (head.remaining() < 8 || head.getInt() != MAGIC) {
+                    throw new IOException("not a binary column file: " + path);
+                }
+                int columns = head.getInt();
+                if (columns < 0) {
+                    throw new IOException("bad column count " + columns + ": " + path);
+                }
+
+                ByteBuffer meta = channel
+                    .map(FileChannel.MapMode.READ_ONLY, 8, 12L * columns)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+                types = new int[columns];
+                counts = new long[columns];
+                data = new ByteBuffer[columns];
+
+                long offset = headerBytes(columns);
+                for (int c = 0; c < columns; c++) {
+                    types[c] = meta.getInt();
+                    counts[c] = meta.getLong();
+                    if (types[c] != INT_COLUMN && types[c] != LONG_COLUMN) {
+                        throw new IOException("column " + c + " has unknown type " + types[c]);
+                    }
+                    long bytes = counts[c] * types[c]; // one mapping: <= 2 GB per column
+                    data[c] = channel
+                        .map(FileChannel.MapMode.READ_ONLY, offset, bytes)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                    offset += align8(bytes);
+                }
+            } catch (IOException | RuntimeException e) {
+                channel.close(); // a half-opened file must not leak its channel
+                throw e;
+            }
+        }
+
+        long count(int column) {
+            return counts[column];
+        }
+
+        IntBuffer ints(int column) {
+            if (types[column] != INT_COLUMN) {
+                throw new IllegalArgumentException("column " + column + " is not int");
+            }
+            return data[column].asIntBuffer();
+        }
+
+        LongBuffer longs(int column) {
+            if (types[column] != LONG_COLUMN) {
+                throw new IllegalArgumentException("column " + column + " is not long");
+            }
+            return data[column].asLongBuffer();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    static void binaryReplayExample(String textFile, String binFile) throws IOException {
+        // Input: "n" then n ints -> column 0 = {n}, column 1 = the array
+        int n;
+        try (InputStream raw = new FileInputStream(textFile)) {
+            ByteScanner fs = new ByteScanner(raw);
+            n = fs.nextInt();
+        }
+        try (InputStream raw = new FileInputStream(textFile)) {
+            convertToBinary(new ByteScanner(raw), Paths.get(binFile),
+                new int[] {INT_COLUMN, INT_COLUMN}, new long[] {1, n});
+        }
+
+        // Every later run: no parsing at all
+        try (BinaryColumns cols = new BinaryColumns(Paths.get(binFile))) {
+            IntBuffer arr = cols.ints(1);
+            long sum = 0;
+            for (int i = 0; i < arr.limit(); i++) {
+                sum += arr.get(i);
+            }
+            System.out.println(sum);
+        }
+    }
+    */
+
+    /*
+    Notes:
+    - Line-structured input ("n lines of x y") becomes ONE column of 2n
+      values: x = get(2 * i), y = get(2 * i + 1)
+    - Need an int[] anyway? arr.get(dst) bulk-copies the whole column
+    - Byte order is fixed (little-endian) so files move between machines
+    - Regenerate the binary file whenever the text input changes
+    */
+
+    /*
+    ----------------------------------------------------
+    17.17 DSA RULES FOR FAST IO
     ----------------------------------------------------
 
     - Never use Scanner
     - Prefer BufferedReader + StringTokenizer
+    - Use a byte-level scanner (17.8) for 10^6+ tokens
+    - Memory-map huge input files (17.9)
+    - Parse huge numeric arrays in parallel chunks (17.10)
+    - Overlap slow reads with parsing via double buffering (17.11)
     - Batch output using StringBuilder
     - Use BufferedWriter if output is huge
+    - Use FastWriter (17.12) when output is hundreds of MB
+    - Pick readers per workload from JMH numbers (17.13), not folklore
+    - SIMD delimiter scanning (17.14) is optional: always keep a scalar fallback
+    - Read .gz inputs directly (17.15), never decompress to disk first
+    - Replayed inputs: convert once to binary columns (17.16)
     */
 
     public static void main(String[] args) {
@@ -9,11 +9,15 @@ Scope:
 - Java-specific traps
 - Debugging strategy for DSA
 - How to think when code "looks right"
+- Running independent test cases in parallel
 
 If your logic is correct but output is wrong — it’s here.
 */
 
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DebuggingAndCommonJavaDSABugs {
 
@@ -103,6 +107,7 @@ public class DebuggingAndCommonJavaDSABugs {
     Fix:
     - Reset state inside solve()
     - Avoid static mutable fields
+    - Required before solving test cases in parallel (20.10)
     */
 
     /*
@@ -249,7 +254,122 @@ public class DebuggingAndCommonJavaDSABugs {
 
     /*
     ----------------------------------------------------
-    20.10 FINAL DSA DEBUGGING RULES
+    20.10 Solving Independent Test Cases Concurrently
+    ----------------------------------------------------
+
+    T = 10^5 small, INDEPENDENT test cases solved one by one
+    -> one core busy, the rest idle.
+
+    Running them in parallel is only safe after fixing 20.3:
+    - static mutable fields are SHARED by all threads -> data races
+    - Move every piece of per-case scratch state into a Workspace object
+    - Give each worker thread its OWN Workspace (reused across its cases)
+
+    Runner:
+    1. Read ALL test cases up front (input is sequential anyway)
+    2. Workers grab small batches of case indices from an AtomicInteger
+    3. Each answer is written to answers[caseIndex]
+    4. Print answers in index order -> output order = input order
+    */
+
+    /*
+    Runnable example: count distinct values in each test case
+    */
+
+    /*
+    static final class Case {
+        final int[] a;
+
+        Case(int[] a) {
+            this.a = a;
+        }
+    }
+
+    // Everything that used to be a static field lives here.
+    static final class Workspace {
+        int[] buf = new int[16];
+
+        int[] buffer(int n) {
+            if (buf.length < n) {
+                buf = new int[Math.max(n, 2 * buf.length)];
+            }
+            return buf;
+        }
+    }
+
+    // Depends ONLY on its arguments -> safe to call from any thread.
+    static long solve(Case c, Workspace ws) {
+        int n = c.a.length;
+        int[] tmp = ws.buffer(n);
+        System.arraycopy(c.a, 0, tmp, 0, n);
+        Arrays.sort(tmp, 0, n);
+
+        long distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || tmp[i] != tmp[i - 1]) distinct++;
+        }
+        return distinct;
+    }
+
+    static void parallelTestCases() throws Exception {
+        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
+        int t = Integer.parseInt(br.readLine().trim());
+
+        Case[] cases = new Case[t];
+        for (int i = 0; i < t; i++) {
+            int n = Integer.parseInt(br.readLine().trim());
+            StringTokenizer st = new StringTokenizer(br.readLine());
+            int[] a = new int[n];
+            for (int j = 0; j < n; j++) a[j] = Integer.parseInt(st.nextToken());
+            cases[i] = new Case(a);
+        }
+
+        final int batch = 64; // amortizes the AtomicInteger per case
+        long[] answers = new long[t];
+        AtomicInteger next = new AtomicInteger();
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int w = 0; w < threads; w++) {
+                workers.add(pool.submit(() -> {
+                    Workspace ws = new Workspace(); // one per worker thread
+                    int from;
+                    while ((from = next.getAndAdd(batch)) < t) {
+                        int to = Math.min(from + batch, t);
+                        for (int i = from; i < to; i++) {
+                            answers[i] = solve(cases[i], ws);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : workers) {
+                f.get(); // waits, and rethrows any exception from a worker
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (long ans : answers) sb.append(ans).append('\n');
+        System.out.print(sb);
+    }
+    */
+
+    /*
+    Notes:
+    - Future.get() also makes every answers[i] write visible to main
+    - Batches (not one task per case) keep scheduling overhead tiny and
+      balance uneven case sizes automatically
+    - Virtual threads (Java 21+) add nothing here: the work is CPU-bound,
+      a fixed pool of "cores" threads is the right size
+    - Only for INDEPENDENT cases: if case i uses results of case i - 1,
+      keep the sequential loop
+    */
+
+    /*
+    ----------------------------------------------------
+    20.11 FINAL DSA DEBUGGING RULES
     ----------------------------------------------------
 
     - Trust invariants, not intuition